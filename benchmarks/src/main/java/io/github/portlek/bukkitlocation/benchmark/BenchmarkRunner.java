@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * a class that runs the benchmarks with the gc profiler and writes the results as json.
+ * <p>
+ * the results are written into {@code results/<version>.json}, where the version is the {@code benchmark.version}
+ * system property or the current date. the other jmh command line options are supported as usual.
+ */
+public final class BenchmarkRunner {
+
+  /**
+   * ctor.
+   */
+  private BenchmarkRunner() {
+  }
+
+  /**
+   * runs the benchmarks.
+   *
+   * @param args the jmh command line options.
+   *
+   * @throws CommandLineOptionException if the options are not valid.
+   * @throws IOException if the results directory cannot be created.
+   * @throws RunnerException if the benchmarks cannot be run.
+   */
+  public static void main(@NotNull final String[] args) throws CommandLineOptionException, IOException,
+    RunnerException {
+    final var version = System.getProperty("benchmark.version", LocalDate.now().toString());
+    final var results = Files.createDirectories(Path.of("results"));
+    final var options = new OptionsBuilder()
+      .parent(new CommandLineOptions(args))
+      .addProfiler(GCProfiler.class)
+      .resultFormat(ResultFormatType.JSON)
+      .result(results.resolve(version + ".json").toString())
+      .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation.benchmark;
+
+import io.github.portlek.bukkitlocation.Cuboid;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * a class that benchmarks {@link Cuboid}.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CuboidBenchmark {
+
+  /**
+   * the cuboid.
+   */
+  private Cuboid cuboid;
+
+  /**
+   * the location which is in the cuboid.
+   */
+  private Location inside;
+
+  /**
+   * the location which is out of the cuboid.
+   */
+  private Location outside;
+
+  /**
+   * the edge length of the cuboid.
+   */
+  @Param({"8", "32", "64"})
+  private int size;
+
+  /**
+   * the toggle of the material to set.
+   */
+  private boolean stone;
+
+  /**
+   * benchmarks {@link Cuboid#blocks()}.
+   *
+   * @return blocks of the cuboid.
+   */
+  @Benchmark
+  public List<Block> blocks() {
+    return this.cuboid.blocks();
+  }
+
+  /**
+   * benchmarks {@link Cuboid#isIn(Location)}.
+   *
+   * @return {@code true} if both checks are right.
+   */
+  @Benchmark
+  public boolean isIn() {
+    return this.cuboid.isIn(this.inside) && !this.cuboid.isIn(this.outside);
+  }
+
+  /**
+   * benchmarks {@link Cuboid#locations()}.
+   *
+   * @return locations of the cuboid.
+   */
+  @Benchmark
+  public List<Location> locations() {
+    return this.cuboid.locations();
+  }
+
+  /**
+   * benchmarks {@link Cuboid#set(Material, boolean)}, the material changes on every call, so every block changes.
+   *
+   * @return changed block count.
+   */
+  @Benchmark
+  public long set() {
+    this.stone = !this.stone;
+    return this.cuboid.set(this.stone ? Material.STONE : Material.DIRT, false);
+  }
+
+  /**
+   * creates the cuboid.
+   */
+  @Setup
+  public void setUp() {
+    final var world = Servers.world();
+    final var max = this.size - 1.0d;
+    this.cuboid = new Cuboid(new Location(world, 0.0d, 0.0d, 0.0d), new Location(world, max, max, max));
+    this.inside = new Location(world, max / 2.0d, max / 2.0d, max / 2.0d);
+    this.outside = new Location(world, max + 2.0d, max / 2.0d, max / 2.0d);
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation.benchmark;
+
+import io.github.portlek.bukkitlocation.DirectionUtil;
+import io.github.portlek.bukkitlocation.Directions;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * a class that benchmarks {@link DirectionUtil}.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DirectionUtilBenchmark {
+
+  /**
+   * the yaw count of an operation.
+   */
+  @Param({"16", "256", "4096"})
+  private int count;
+
+  /**
+   * the output array.
+   */
+  private Directions[] out;
+
+  /**
+   * the yaws from -180 to 180.
+   */
+  private float[] yaws;
+
+  /**
+   * benchmarks {@link DirectionUtil#directionOf(float)}.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  public void directionOf(@NotNull final Blackhole blackhole) {
+    for (final var yaw : this.yaws) {
+      blackhole.consume(DirectionUtil.directionOf(yaw));
+    }
+  }
+
+  /**
+   * benchmarks {@link DirectionUtil#directionsOf(float[], Directions[])}.
+   *
+   * @return the output array.
+   */
+  @Benchmark
+  public Directions[] directionsOf() {
+    DirectionUtil.directionsOf(this.yaws, this.out);
+    return this.out;
+  }
+
+  /**
+   * benchmarks {@link DirectionUtil#doubleDirectionOf(float)}.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  public void doubleDirectionOf(@NotNull final Blackhole blackhole) {
+    for (final var yaw : this.yaws) {
+      blackhole.consume(DirectionUtil.doubleDirectionOf(yaw));
+    }
+  }
+
+  /**
+   * creates the yaws.
+   */
+  @Setup
+  public void setUp() {
+    final var random = new Random(42L);
+    this.yaws = new float[this.count];
+    this.out = new Directions[this.count];
+    for (var index = 0; index < this.count; index++) {
+      this.yaws[index] = (random.nextFloat() - 0.5f) * 360.0f;
+    }
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation.benchmark;
+
+import io.github.portlek.bukkitlocation.LocationUtil;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.util.NumberConversions;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * a class that benchmarks {@link LocationUtil#toKey(Location)} and {@link LocationUtil#fromKey(String)}.
+ * <p>
+ * the legacy regex and {@link String#format(Locale, String, Object...)} implementation is kept as the baseline.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LocationUtilBenchmark {
+
+  /**
+   * the legacy location pattern.
+   */
+  private static final Pattern LEGACY_PATTERN =
+    Pattern.compile("(?<world>[^/]+):(?<x>[\\-0-9.]+),(?<y>[\\-0-9.]+),(?<z>[\\-0-9.]+)(:(?<yaw>[\\-0-9.]+):(?<pitch>[\\-0-9.]+))?");
+
+  /**
+   * the key count of an operation.
+   */
+  @Param({"1", "100", "10000"})
+  private int count;
+
+  /**
+   * the keys.
+   */
+  private String[] keys;
+
+  /**
+   * the locations.
+   */
+  private Location[] locations;
+
+  /**
+   * benchmarks {@link LocationUtil#fromKey(String)}.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  public void fromKey(@NotNull final Blackhole blackhole) {
+    for (final var key : this.keys) {
+      blackhole.consume(LocationUtil.fromKey(key));
+    }
+  }
+
+  /**
+   * benchmarks the legacy parser.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  public void legacyFromKey(@NotNull final Blackhole blackhole) {
+    for (final var key : this.keys) {
+      blackhole.consume(LocationUtilBenchmark.parseLegacy(key));
+    }
+  }
+
+  /**
+   * benchmarks the legacy formatter.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  public void legacyToKey(@NotNull final Blackhole blackhole) {
+    for (final var location : this.locations) {
+      blackhole.consume(LocationUtilBenchmark.formatLegacy(location));
+    }
+  }
+
+  /**
+   * creates the locations and their keys, half of the locations have rotations.
+   */
+  @Setup
+  public void setUp() {
+    final var world = Servers.world();
+    final var random = new Random(42L);
+    this.locations = new Location[this.count];
+    this.keys = new String[this.count];
+    for (var index = 0; index < this.count; index++) {
+      final var rotated = index % 2 == 0;
+      this.locations[index] = new Location(world,
+        (random.nextDouble() - 0.5d) * 60_000.0d,
+        random.nextDouble() * 256.0d,
+        (random.nextDouble() - 0.5d) * 60_000.0d,
+        rotated ? (random.nextFloat() - 0.5f) * 360.0f : 0.0f,
+        rotated ? (random.nextFloat() - 0.5f) * 180.0f : 0.0f);
+      this.keys[index] = LocationUtil.toKey(this.locations[index]);
+    }
+  }
+
+  /**
+   * benchmarks {@link LocationUtil#toKey(Location)}.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  public void toKey(@NotNull final Blackhole blackhole) {
+    for (final var location : this.locations) {
+      blackhole.consume(LocationUtil.toKey(location));
+    }
+  }
+
+  /**
+   * formats the given location with the legacy implementation.
+   *
+   * @param location the location to format.
+   *
+   * @return a formatted key.
+   */
+  @NotNull
+  private static String formatLegacy(@NotNull final Location location) {
+    var s = LocationUtil.validWorld(location).getName() + ':';
+    s += String.format(Locale.ENGLISH, "%.2f,%.2f,%.2f", location.getX(), location.getY(), location.getZ());
+    if (location.getYaw() != 0.0f || location.getPitch() != 0.0f) {
+      s += String.format(Locale.ENGLISH, ":%.2f:%.2f", location.getYaw(), location.getPitch());
+    }
+    return s.replace(":", "/").replace(".", "_");
+  }
+
+  /**
+   * parses the given key with the legacy implementation.
+   *
+   * @param key the key to parse.
+   *
+   * @return a parsed location.
+   */
+  @NotNull
+  private static Optional<Location> parseLegacy(@NotNull final String key) {
+    final var match = LocationUtilBenchmark.LEGACY_PATTERN.matcher(key
+      .replace("_", ".")
+      .replace("/", ":"));
+    if (!match.matches()) {
+      return Optional.empty();
+    }
+    final var yaw = Optional.ofNullable(match.group("yaw"))
+      .map(NumberConversions::toFloat)
+      .orElse(0.0f);
+    final var pitch = Optional.ofNullable(match.group("pitch"))
+      .map(NumberConversions::toFloat)
+      .orElse(0.0f);
+    return Optional.of(new Location(Bukkit.getWorld(match.group("world")),
+      NumberConversions.toDouble(match.group("x")),
+      NumberConversions.toDouble(match.group("y")),
+      NumberConversions.toDouble(match.group("z")),
+      yaw,
+      pitch));
+  }
+}
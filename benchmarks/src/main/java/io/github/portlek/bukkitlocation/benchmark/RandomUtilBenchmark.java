@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation.benchmark;
+
+import io.github.portlek.bukkitlocation.RandomSource;
+import io.github.portlek.bukkitlocation.RandomUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * a class that benchmarks {@link RandomUtil#chooseRandoms(List, int, boolean, RandomSource)}.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RandomUtilBenchmark {
+
+  /**
+   * the chosen element count.
+   */
+  @Param({"10", "1000"})
+  private int limit;
+
+  /**
+   * the list to choose.
+   */
+  private List<Integer> list;
+
+  /**
+   * the random source.
+   */
+  private RandomSource random;
+
+  /**
+   * the element count of the list.
+   */
+  @Param({"100", "10000", "1000000"})
+  private int size;
+
+  /**
+   * benchmarks choosing with duplicates.
+   *
+   * @return chosen elements.
+   */
+  @Benchmark
+  public List<Integer> chooseRandoms() {
+    return RandomUtil.chooseRandoms(this.list, this.limit, true, this.random);
+  }
+
+  /**
+   * benchmarks choosing without duplicates.
+   *
+   * @return chosen elements.
+   */
+  @Benchmark
+  public List<Integer> chooseRandomsDistinct() {
+    return RandomUtil.chooseRandoms(this.list, this.limit, false, this.random);
+  }
+
+  /**
+   * creates the list and the random source.
+   */
+  @Setup
+  public void setUp() {
+    this.list = new ArrayList<>(this.size);
+    for (var index = 0; index < this.size; index++) {
+      this.list.add(index);
+    }
+    this.random = RandomSource.seeded(42L);
+  }
+}
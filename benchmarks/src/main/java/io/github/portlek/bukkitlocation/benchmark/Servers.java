@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation.benchmark;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that provides the mock server of the benchmarks.
+ */
+final class Servers {
+
+  /**
+   * the world name.
+   */
+  private static final String WORLD = "world";
+
+  /**
+   * ctor.
+   */
+  private Servers() {
+  }
+
+  /**
+   * obtains the world of the mock server, mocks the server if it is not mocked yet.
+   *
+   * @return a world.
+   */
+  @NotNull
+  static synchronized World world() {
+    if (!MockBukkit.isMocked()) {
+      MockBukkit.mock().addSimpleWorld(Servers.WORLD);
+    }
+    final var world = MockBukkit.getMock().getWorld(Servers.WORLD);
+    assert world != null;
+    return world;
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation.benchmark;
+
+import io.github.portlek.bukkitlocation.Rotation;
+import io.github.portlek.bukkitlocation.TrigonometryMode;
+import io.github.portlek.bukkitlocation.VectorUtil;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * a class that benchmarks {@link VectorUtil} and {@link Rotation}.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class VectorUtilBenchmark {
+
+  /**
+   * the point count of an operation.
+   */
+  @Param({"100", "10000"})
+  private int count;
+
+  /**
+   * the trigonometry mode.
+   */
+  @Param({"STRICT", "FAST", "APPROXIMATE"})
+  private TrigonometryMode mode;
+
+  /**
+   * the output vector.
+   */
+  private Vector out;
+
+  /**
+   * the pitches.
+   */
+  private float[] pitches;
+
+  /**
+   * the vectors.
+   */
+  private Vector[] vectors;
+
+  /**
+   * the x coordinates.
+   */
+  private double[] xs;
+
+  /**
+   * the y coordinates.
+   */
+  private double[] ys;
+
+  /**
+   * the yaws.
+   */
+  private float[] yaws;
+
+  /**
+   * the z coordinates.
+   */
+  private double[] zs;
+
+  /**
+   * benchmarks {@link Rotation#apply(double[], double[], double[])} with a rotation which is created once.
+   *
+   * @return the x coordinates.
+   */
+  @Benchmark
+  public double[] rotationApply() {
+    Rotation.ofYawPitch(this.yaws[0], this.pitches[0]).apply(this.xs, this.ys, this.zs);
+    return this.xs;
+  }
+
+  /**
+   * benchmarks {@link VectorUtil#rotateVector(Vector, double, double)} which creates a vector for each call.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  public void rotateVector(@NotNull final Blackhole blackhole) {
+    for (var index = 0; index < this.count; index++) {
+      blackhole.consume(VectorUtil.rotateVector(this.vectors[index], this.yaws[index], this.pitches[index]));
+    }
+  }
+
+  /**
+   * benchmarks {@link VectorUtil#rotateVector(Vector, double, double, Vector)} which writes into a single vector.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  public void rotateVectorInto(@NotNull final Blackhole blackhole) {
+    for (var index = 0; index < this.count; index++) {
+      blackhole.consume(VectorUtil.rotateVector(this.vectors[index], this.yaws[index], this.pitches[index],
+        this.out));
+    }
+  }
+
+  /**
+   * creates the vectors and the angles, and selects the trigonometry mode.
+   */
+  @Setup
+  public void setUp() {
+    VectorUtil.setTrigonometryMode(this.mode);
+    final var random = new Random(42L);
+    this.out = new Vector();
+    this.vectors = new Vector[this.count];
+    this.yaws = new float[this.count];
+    this.pitches = new float[this.count];
+    this.xs = new double[this.count];
+    this.ys = new double[this.count];
+    this.zs = new double[this.count];
+    for (var index = 0; index < this.count; index++) {
+      this.vectors[index] = new Vector(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+      this.yaws[index] = (random.nextFloat() - 0.5f) * 360.0f;
+      this.pitches[index] = (random.nextFloat() - 0.5f) * 180.0f;
+      this.xs[index] = this.vectors[index].getX();
+      this.ys[index] = this.vectors[index].getY();
+      this.zs[index] = this.vectors[index].getZ();
+    }
+  }
+
+  /**
+   * restores the default trigonometry mode.
+   */
+  @TearDown
+  public void tearDown() {
+    VectorUtil.setTrigonometryMode(TrigonometryMode.STRICT);
+  }
+}
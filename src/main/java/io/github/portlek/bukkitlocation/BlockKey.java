@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that contains utility methods to pack block coordinates into a single {@code long}.
+ * <p>
+ * the layout is 26 bits of x, 26 bits of z and 12 bits of y, so x and z must be in
+ * [-33554432, 33554431] and y must be in [-2048, 2047].
+ */
+public final class BlockKey {
+
+  /**
+   * the mask of the x and z coordinates.
+   */
+  private static final long HORIZONTAL_MASK = (1L << 26) - 1L;
+
+  /**
+   * the mask of the y coordinate.
+   */
+  private static final long VERTICAL_MASK = (1L << 12) - 1L;
+
+  /**
+   * ctor.
+   */
+  private BlockKey() {
+  }
+
+  /**
+   * packs the given chunk coordinates.
+   *
+   * @param chunkX the chunk x to pack.
+   * @param chunkZ the chunk z to pack.
+   *
+   * @return a packed chunk key.
+   */
+  public static long chunk(final int chunkX, final int chunkZ) {
+    return (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
+  }
+
+  /**
+   * packs the chunk coordinates of the given location.
+   *
+   * @param location the location to pack.
+   *
+   * @return a packed chunk key.
+   */
+  public static long chunk(@NotNull final Location location) {
+    return BlockKey.chunk(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+  }
+
+  /**
+   * obtains a block key from the given block.
+   *
+   * @param block the block to obtain.
+   *
+   * @return a packed block key.
+   */
+  public static long of(@NotNull final Block block) {
+    return BlockKey.of(block.getX(), block.getY(), block.getZ());
+  }
+
+  /**
+   * obtains a block key from the given location.
+   *
+   * @param location the location to obtain.
+   *
+   * @return a packed block key.
+   */
+  public static long of(@NotNull final Location location) {
+    return BlockKey.of(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+  }
+
+  /**
+   * packs the given block coordinates.
+   *
+   * @param x the x to pack.
+   * @param y the y to pack.
+   * @param z the z to pack.
+   *
+   * @return a packed block key.
+   */
+  public static long of(final int x, final int y, final int z) {
+    return (x & BlockKey.HORIZONTAL_MASK) << 38 |
+      (z & BlockKey.HORIZONTAL_MASK) << 12 |
+      y & BlockKey.VERTICAL_MASK;
+  }
+
+  /**
+   * obtains the block of the given key in the given world.
+   *
+   * @param world the world to obtain.
+   * @param key the key to obtain.
+   *
+   * @return the block of the key.
+   */
+  @NotNull
+  public static Block toBlock(@NotNull final World world, final long key) {
+    return world.getBlockAt(BlockKey.x(key), BlockKey.y(key), BlockKey.z(key));
+  }
+
+  /**
+   * obtains the location of the given key in the given world.
+   *
+   * @param world the world to obtain.
+   * @param key the key to obtain.
+   *
+   * @return the location of the key.
+   */
+  @NotNull
+  public static Location toLocation(@NotNull final World world, final long key) {
+    return new Location(world, BlockKey.x(key), BlockKey.y(key), BlockKey.z(key));
+  }
+
+  /**
+   * unpacks x of the given key.
+   *
+   * @param key the key to unpack.
+   *
+   * @return block x of the key.
+   */
+  public static int x(final long key) {
+    return (int) (key >> 38);
+  }
+
+  /**
+   * unpacks y of the given key.
+   *
+   * @param key the key to unpack.
+   *
+   * @return block y of the key.
+   */
+  public static int y(final long key) {
+    return (int) (key << 52 >> 52);
+  }
+
+  /**
+   * unpacks z of the given key.
+   *
+   * @param key the key to unpack.
+   *
+   * @return block z of the key.
+   */
+  public static int z(final long key) {
+    return (int) (key << 26 >> 38);
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.NumberConversions;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents chunk grid index of {@link Cuboid}s in a single world.
+ * <p>
+ * every cuboid is put into each chunk column it overlaps, so a lookup only checks the few cuboids of a single
+ * chunk. suits many small cuboids, use {@link RegionIndex} for huge ones. the index is not thread-safe.
+ */
+public final class ChunkRegionIndex {
+
+  /**
+   * the empty bucket.
+   */
+  private static final Cuboid[] EMPTY = new Cuboid[0];
+
+  /**
+   * the cuboid buckets by {@link BlockKey#chunk(int, int)}.
+   */
+  @NotNull
+  private final LongHashMap<Cuboid[]> buckets = new LongHashMap<>();
+
+  /**
+   * the cuboids.
+   */
+  @NotNull
+  private final Set<Cuboid> cuboids = new HashSet<>();
+
+  /**
+   * the world unique id.
+   */
+  @NotNull
+  private final UUID worldId;
+
+  /**
+   * ctor.
+   *
+   * @param world the world of the cuboids.
+   */
+  public ChunkRegionIndex(@NotNull final World world) {
+    this.worldId = world.getUID();
+  }
+
+  /**
+   * checks if any cuboid contains the given location.
+   *
+   * @param location the location to check.
+   *
+   * @return {@code true} if a cuboid contains the location.
+   */
+  public boolean anyContains(@NotNull final Location location) {
+    final var x = location.getX();
+    final var y = location.getY();
+    final var z = location.getZ();
+    for (final var cuboid : this.bucket(location)) {
+      if (cuboid.isIn(x, y, z)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * checks if the index contains the given cuboid.
+   *
+   * @param cuboid the cuboid to check.
+   *
+   * @return {@code true} if the index contains the cuboid.
+   */
+  public boolean contains(@NotNull final Cuboid cuboid) {
+    return this.cuboids.contains(cuboid);
+  }
+
+  /**
+   * runs the given action for each cuboid that contains the given location.
+   *
+   * @param location the location to query.
+   * @param action the action to run.
+   */
+  public void forEach(@NotNull final Location location, @NotNull final Consumer<Cuboid> action) {
+    final var x = location.getX();
+    final var y = location.getY();
+    final var z = location.getZ();
+    for (final var cuboid : this.bucket(location)) {
+      if (cuboid.isIn(x, y, z)) {
+        action.accept(cuboid);
+      }
+    }
+  }
+
+  /**
+   * inserts the given cuboid.
+   *
+   * @param cuboid the cuboid to insert.
+   *
+   * @return {@code true} if the index did not contain the cuboid.
+   *
+   * @throws IllegalArgumentException if the cuboid is not in the world of the index.
+   */
+  public boolean insert(@NotNull final Cuboid cuboid) {
+    Preconditions.checkArgument(cuboid.getWorld().getUID().equals(this.worldId),
+      "%s is not in the world of the index!", cuboid);
+    if (!this.cuboids.add(cuboid)) {
+      return false;
+    }
+    ChunkRegionIndex.forEachChunk(cuboid, key -> {
+      final var bucket = this.buckets.get(key);
+      if (bucket == null) {
+        this.buckets.put(key, new Cuboid[]{cuboid});
+      } else {
+        final var grown = Arrays.copyOf(bucket, bucket.length + 1);
+        grown[bucket.length] = cuboid;
+        this.buckets.put(key, grown);
+      }
+    });
+    return true;
+  }
+
+  /**
+   * obtains the cuboids which contain the given location.
+   *
+   * @param location the location to query.
+   *
+   * @return cuboids that contain the location.
+   */
+  @NotNull
+  public List<Cuboid> query(@NotNull final Location location) {
+    final var result = new ArrayList<Cuboid>();
+    this.forEach(location, result::add);
+    return result;
+  }
+
+  /**
+   * removes the given cuboid.
+   *
+   * @param cuboid the cuboid to remove.
+   *
+   * @return {@code true} if the index contained the cuboid.
+   */
+  public boolean remove(@NotNull final Cuboid cuboid) {
+    if (!this.cuboids.remove(cuboid)) {
+      return false;
+    }
+    ChunkRegionIndex.forEachChunk(cuboid, key -> {
+      final var bucket = this.buckets.get(key);
+      if (bucket == null) {
+        return;
+      }
+      if (bucket.length == 1) {
+        this.buckets.remove(key);
+        return;
+      }
+      final var shrunk = new Cuboid[bucket.length - 1];
+      var index = 0;
+      for (final var current : bucket) {
+        if (current != cuboid && index < shrunk.length) {
+          shrunk[index++] = current;
+        }
+      }
+      this.buckets.put(key, shrunk);
+    });
+    return true;
+  }
+
+  /**
+   * obtains the cuboid count.
+   *
+   * @return cuboid count of the index.
+   */
+  public int size() {
+    return this.cuboids.size();
+  }
+
+  /**
+   * runs the given action for each chunk key the given cuboid overlaps.
+   *
+   * @param cuboid the cuboid to run.
+   * @param action the action to run.
+   */
+  private static void forEachChunk(@NotNull final Cuboid cuboid, @NotNull final LongConsumer action) {
+    final var minChunkX = NumberConversions.floor(cuboid.getMinX()) >> 4;
+    final var minChunkZ = NumberConversions.floor(cuboid.getMinZ()) >> 4;
+    final var maxChunkX = NumberConversions.floor(cuboid.getMaxX()) >> 4;
+    final var maxChunkZ = NumberConversions.floor(cuboid.getMaxZ()) >> 4;
+    for (var chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+      for (var chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+        action.accept(BlockKey.chunk(chunkX, chunkZ));
+      }
+    }
+  }
+
+  /**
+   * obtains the bucket of the given location.
+   *
+   * @param location the location to obtain.
+   *
+   * @return cuboids of the location's chunk.
+   */
+  @NotNull
+  private Cuboid[] bucket(@NotNull final Location location) {
+    final var world = location.getWorld();
+    if (world == null || !world.getUID().equals(this.worldId)) {
+      return ChunkRegionIndex.EMPTY;
+    }
+    final var bucket = this.buckets.get(BlockKey.chunk(location));
+    return bucket == null ? ChunkRegionIndex.EMPTY : bucket;
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents lazy {@link Iterator} which walks blocks of a cuboid chunk by chunk and section by section.
+ * <p>
+ * each chunk is looked up once and all of its blocks are visited in the storage order of the sections, so the
+ * writes stay inside a single chunk section as long as possible.
+ */
+final class ChunkSectionIterator implements Iterator<Block> {
+
+  /**
+   * the maximum block x.
+   */
+  private final int maxX;
+
+  /**
+   * the maximum block y.
+   */
+  private final int maxY;
+
+  /**
+   * the maximum block z.
+   */
+  private final int maxZ;
+
+  /**
+   * the minimum block x.
+   */
+  private final int minX;
+
+  /**
+   * the minimum block y.
+   */
+  private final int minY;
+
+  /**
+   * the minimum block z.
+   */
+  private final int minZ;
+
+  /**
+   * the world.
+   */
+  @NotNull
+  private final World world;
+
+  /**
+   * the current chunk.
+   */
+  @Nullable
+  private Chunk chunk;
+
+  /**
+   * the current chunk x.
+   */
+  private int chunkX;
+
+  /**
+   * the current chunk z.
+   */
+  private int chunkZ;
+
+  /**
+   * the current section y.
+   */
+  private int sectionY;
+
+  /**
+   * the current block x.
+   */
+  private int x;
+
+  /**
+   * the current block y.
+   */
+  private int y;
+
+  /**
+   * the current block z.
+   */
+  private int z;
+
+  /**
+   * ctor.
+   *
+   * @param world the world.
+   * @param minX the minimum block x.
+   * @param minY the minimum block y.
+   * @param minZ the minimum block z.
+   * @param maxX the maximum block x.
+   * @param maxY the maximum block y.
+   * @param maxZ the maximum block z.
+   */
+  ChunkSectionIterator(@NotNull final World world, final int minX, final int minY, final int minZ,
+                       final int maxX, final int maxY, final int maxZ) {
+    this.world = world;
+    this.minX = minX;
+    this.minY = minY;
+    this.minZ = minZ;
+    this.maxX = maxX;
+    this.maxY = maxY;
+    this.maxZ = maxZ;
+    this.chunkX = minX >> 4;
+    this.chunkZ = minZ >> 4;
+    this.sectionY = minY >> 4;
+    this.resetCell();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return this.chunkX <= this.maxX >> 4;
+  }
+
+  @NotNull
+  @Override
+  public Block next() {
+    if (!this.hasNext()) {
+      throw new NoSuchElementException();
+    }
+    if (this.chunk == null) {
+      this.chunk = this.world.getChunkAt(this.chunkX, this.chunkZ);
+    }
+    final var block = this.chunk.getBlock(this.x & 15, this.y, this.z & 15);
+    this.advance();
+    return block;
+  }
+
+  /**
+   * moves the cursor to the next block.
+   */
+  private void advance() {
+    if (this.x < this.cellMaxX()) {
+      this.x++;
+      return;
+    }
+    this.x = this.cellMinX();
+    if (this.z < this.cellMaxZ()) {
+      this.z++;
+      return;
+    }
+    this.z = this.cellMinZ();
+    if (this.y < this.cellMaxY()) {
+      this.y++;
+      return;
+    }
+    if (this.sectionY < this.maxY >> 4) {
+      this.sectionY++;
+    } else {
+      this.sectionY = this.minY >> 4;
+      this.chunk = null;
+      if (this.chunkZ < this.maxZ >> 4) {
+        this.chunkZ++;
+      } else {
+        this.chunkZ = this.minZ >> 4;
+        this.chunkX++;
+      }
+    }
+    this.resetCell();
+  }
+
+  /**
+   * obtains the maximum x of the current cell.
+   *
+   * @return maximum x of the cell.
+   */
+  private int cellMaxX() {
+    return Math.min(this.maxX, (this.chunkX << 4) + 15);
+  }
+
+  /**
+   * obtains the maximum y of the current cell.
+   *
+   * @return maximum y of the cell.
+   */
+  private int cellMaxY() {
+    return Math.min(this.maxY, (this.sectionY << 4) + 15);
+  }
+
+  /**
+   * obtains the maximum z of the current cell.
+   *
+   * @return maximum z of the cell.
+   */
+  private int cellMaxZ() {
+    return Math.min(this.maxZ, (this.chunkZ << 4) + 15);
+  }
+
+  /**
+   * obtains the minimum x of the current cell.
+   *
+   * @return minimum x of the cell.
+   */
+  private int cellMinX() {
+    return Math.max(this.minX, this.chunkX << 4);
+  }
+
+  /**
+   * obtains the minimum y of the current cell.
+   *
+   * @return minimum y of the cell.
+   */
+  private int cellMinY() {
+    return Math.max(this.minY, this.sectionY << 4);
+  }
+
+  /**
+   * obtains the minimum z of the current cell.
+   *
+   * @return minimum z of the cell.
+   */
+  private int cellMinZ() {
+    return Math.max(this.minZ, this.chunkZ << 4);
+  }
+
+  /**
+   * moves the cursor to the first block of the current cell.
+   */
+  private void resetCell() {
+    this.x = this.cellMinX();
+    this.y = this.cellMinY();
+    this.z = this.cellMinZ();
+  }
+}
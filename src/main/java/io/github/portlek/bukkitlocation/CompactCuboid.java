@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import java.util.Optional;
+import java.util.UUID;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents memory friendly, immutable block bounds of a {@link Cuboid}.
+ * <p>
+ * keeps only the block coordinates and the world unique id, so it does not retain {@link Location}s and does not
+ * keep unloaded worlds in memory. the world is resolved when it is needed.
+ */
+@ToString
+@EqualsAndHashCode
+public final class CompactCuboid {
+
+  /**
+   * the maximum block x.
+   */
+  @Getter
+  private final int maxX;
+
+  /**
+   * the maximum block y.
+   */
+  @Getter
+  private final int maxY;
+
+  /**
+   * the maximum block z.
+   */
+  @Getter
+  private final int maxZ;
+
+  /**
+   * the minimum block x.
+   */
+  @Getter
+  private final int minX;
+
+  /**
+   * the minimum block y.
+   */
+  @Getter
+  private final int minY;
+
+  /**
+   * the minimum block z.
+   */
+  @Getter
+  private final int minZ;
+
+  /**
+   * the world unique id.
+   */
+  @NotNull
+  @Getter
+  private final UUID worldId;
+
+  /**
+   * ctor.
+   *
+   * @param worldId the world unique id.
+   * @param x1 the first block x.
+   * @param y1 the first block y.
+   * @param z1 the first block z.
+   * @param x2 the second block x.
+   * @param y2 the second block y.
+   * @param z2 the second block z.
+   */
+  public CompactCuboid(@NotNull final UUID worldId, final int x1, final int y1, final int z1, final int x2,
+                       final int y2, final int z2) {
+    this.worldId = worldId;
+    this.minX = Math.min(x1, x2);
+    this.minY = Math.min(y1, y2);
+    this.minZ = Math.min(z1, z2);
+    this.maxX = Math.max(x1, x2);
+    this.maxY = Math.max(y1, y2);
+    this.maxZ = Math.max(z1, z2);
+  }
+
+  /**
+   * creates a compact cuboid from the block bounds of the given cuboid.
+   *
+   * @param cuboid the cuboid to create.
+   *
+   * @return a new compact cuboid instance.
+   */
+  @NotNull
+  public static CompactCuboid of(@NotNull final Cuboid cuboid) {
+    return new CompactCuboid(cuboid.getWorld().getUID(),
+      cuboid.getBlockMinX(), cuboid.getBlockMinY(), cuboid.getBlockMinZ(),
+      cuboid.getBlockMaxX(), cuboid.getBlockMaxY(), cuboid.getBlockMaxZ());
+  }
+
+  /**
+   * checks if the given block coordinates are in the cuboid.
+   *
+   * @param x the block x to check.
+   * @param y the block y to check.
+   * @param z the block z to check.
+   *
+   * @return {@code true} if the block is in the cuboid.
+   */
+  public boolean containsBlock(final int x, final int y, final int z) {
+    return x >= this.minX && x <= this.maxX &&
+      y >= this.minY && y <= this.maxY &&
+      z >= this.minZ && z <= this.maxZ;
+  }
+
+  /**
+   * checks if the block of the given location is in the cuboid.
+   *
+   * @param location the location to check.
+   *
+   * @return {@code true} if the location is in the cuboid.
+   */
+  public boolean isIn(@NotNull final Location location) {
+    final var world = location.getWorld();
+    return world != null && world.getUID().equals(this.worldId) &&
+      this.containsBlock(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+  }
+
+  /**
+   * converts the compact cuboid into a {@link Cuboid}.
+   *
+   * @return a new cuboid instance or an empty optional if the world is not loaded.
+   */
+  @NotNull
+  public Optional<Cuboid> toCuboid() {
+    return this.world().map(world -> new Cuboid(
+      new Location(world, this.minX, this.minY, this.minZ),
+      new Location(world, this.maxX, this.maxY, this.maxZ)));
+  }
+
+  /**
+   * obtains the block count inside the cuboid.
+   *
+   * @return block count of the cuboid.
+   */
+  public long volume() {
+    return (long) (this.maxX - this.minX + 1) * (this.maxY - this.minY + 1) * (this.maxZ - this.minZ + 1);
+  }
+
+  /**
+   * resolves the world of the cuboid.
+   *
+   * @return the world or an empty optional if the world is not loaded.
+   */
+  @NotNull
+  public Optional<World> world() {
+    return Optional.ofNullable(Bukkit.getWorld(this.worldId));
+  }
+}
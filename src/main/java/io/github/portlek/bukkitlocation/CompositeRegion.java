@@ -0,0 +1,246 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import com.google.common.base.Preconditions;
+import java.util.stream.Stream;
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.NumberConversions;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents union, intersection or subtraction of two {@link Region}s.
+ * <p>
+ * every check is rejected early by the enclosing bounds before the operands are asked.
+ */
+public final class CompositeRegion implements Region {
+
+  /**
+   * the bounds.
+   */
+  @NotNull
+  private final BoundingBox bounds;
+
+  /**
+   * the empty bounds flag.
+   */
+  private final boolean empty;
+
+  /**
+   * the left operand.
+   */
+  @NotNull
+  private final Region left;
+
+  /**
+   * the operation.
+   */
+  @NotNull
+  private final Operation operation;
+
+  /**
+   * the right operand.
+   */
+  @NotNull
+  private final Region right;
+
+  /**
+   * the common world.
+   */
+  @NotNull
+  @Getter
+  private final World world;
+
+  /**
+   * ctor.
+   *
+   * @param left the left operand.
+   * @param right the right operand.
+   * @param operation the operation.
+   *
+   * @throws IllegalStateException if worlds of the given regions are not same.
+   */
+  private CompositeRegion(@NotNull final Region left, @NotNull final Region right,
+                          @NotNull final Operation operation) {
+    final var leftWorld = left.getWorld();
+    final var rightWorld = right.getWorld();
+    Preconditions.checkState(leftWorld.equals(rightWorld), "%s and %s are not equals!",
+      leftWorld, rightWorld);
+    this.left = left;
+    this.right = right;
+    this.operation = operation;
+    this.world = leftWorld;
+    final var leftBounds = left.getBoundingBox();
+    final var rightBounds = right.getBoundingBox();
+    if (operation == Operation.UNION) {
+      this.bounds = leftBounds.union(rightBounds);
+      this.empty = false;
+    } else if (operation == Operation.INTERSECTION) {
+      final var minX = Math.max(leftBounds.getMinX(), rightBounds.getMinX());
+      final var minY = Math.max(leftBounds.getMinY(), rightBounds.getMinY());
+      final var minZ = Math.max(leftBounds.getMinZ(), rightBounds.getMinZ());
+      final var maxX = Math.min(leftBounds.getMaxX(), rightBounds.getMaxX());
+      final var maxY = Math.min(leftBounds.getMaxY(), rightBounds.getMaxY());
+      final var maxZ = Math.min(leftBounds.getMaxZ(), rightBounds.getMaxZ());
+      this.empty = minX > maxX || minY > maxY || minZ > maxZ;
+      this.bounds = this.empty ? leftBounds : new BoundingBox(minX, minY, minZ, maxX, maxY, maxZ);
+    } else {
+      this.bounds = leftBounds;
+      this.empty = false;
+    }
+  }
+
+  /**
+   * creates a region that contains the blocks which are in both given regions.
+   *
+   * @param left the left operand.
+   * @param right the right operand.
+   *
+   * @return a new region instance.
+   *
+   * @throws IllegalStateException if worlds of the given regions are not same.
+   */
+  @NotNull
+  public static CompositeRegion intersection(@NotNull final Region left, @NotNull final Region right) {
+    return new CompositeRegion(left, right, Operation.INTERSECTION);
+  }
+
+  /**
+   * creates a region that contains the blocks of the left region which are not in the right region.
+   *
+   * @param left the left operand.
+   * @param right the right operand.
+   *
+   * @return a new region instance.
+   *
+   * @throws IllegalStateException if worlds of the given regions are not same.
+   */
+  @NotNull
+  public static CompositeRegion subtraction(@NotNull final Region left, @NotNull final Region right) {
+    return new CompositeRegion(left, right, Operation.SUBTRACTION);
+  }
+
+  /**
+   * creates a region that contains the blocks of either given region.
+   *
+   * @param left the left operand.
+   * @param right the right operand.
+   *
+   * @return a new region instance.
+   *
+   * @throws IllegalStateException if worlds of the given regions are not same.
+   */
+  @NotNull
+  public static CompositeRegion union(@NotNull final Region left, @NotNull final Region right) {
+    return new CompositeRegion(left, right, Operation.UNION);
+  }
+
+  @NotNull
+  @Override
+  public Stream<Block> blockStream() {
+    if (this.empty) {
+      return Stream.empty();
+    }
+    if (this.operation == Operation.UNION) {
+      return Stream.concat(this.left.blockStream(), this.right.blockStream()
+        .filter(block -> !this.left.containsBlock(block.getX(), block.getY(), block.getZ())));
+    }
+    if (this.operation == Operation.INTERSECTION) {
+      return this.left.blockStream()
+        .filter(block -> this.right.containsBlock(block.getX(), block.getY(), block.getZ()));
+    }
+    return this.left.blockStream()
+      .filter(block -> !this.right.containsBlock(block.getX(), block.getY(), block.getZ()));
+  }
+
+  @Override
+  public boolean containsBlock(final int x, final int y, final int z) {
+    if (this.empty ||
+      x < NumberConversions.floor(this.bounds.getMinX()) || x > NumberConversions.floor(this.bounds.getMaxX()) ||
+      y < NumberConversions.floor(this.bounds.getMinY()) || y > NumberConversions.floor(this.bounds.getMaxY()) ||
+      z < NumberConversions.floor(this.bounds.getMinZ()) || z > NumberConversions.floor(this.bounds.getMaxZ())) {
+      return false;
+    }
+    if (this.operation == Operation.UNION) {
+      return this.left.containsBlock(x, y, z) || this.right.containsBlock(x, y, z);
+    }
+    if (this.operation == Operation.INTERSECTION) {
+      return this.left.containsBlock(x, y, z) && this.right.containsBlock(x, y, z);
+    }
+    return this.left.containsBlock(x, y, z) && !this.right.containsBlock(x, y, z);
+  }
+
+  @NotNull
+  @Override
+  public BoundingBox getBoundingBox() {
+    return this.bounds.clone();
+  }
+
+  @Override
+  public boolean isIn(@NotNull final Location location) {
+    return this.world.equals(location.getWorld()) && this.isIn(location.getX(), location.getY(), location.getZ());
+  }
+
+  @Override
+  public boolean isIn(final double x, final double y, final double z) {
+    if (this.empty ||
+      x < this.bounds.getMinX() || x > this.bounds.getMaxX() ||
+      y < this.bounds.getMinY() || y > this.bounds.getMaxY() ||
+      z < this.bounds.getMinZ() || z > this.bounds.getMaxZ()) {
+      return false;
+    }
+    if (this.operation == Operation.UNION) {
+      return this.left.isIn(x, y, z) || this.right.isIn(x, y, z);
+    }
+    if (this.operation == Operation.INTERSECTION) {
+      return this.left.isIn(x, y, z) && this.right.isIn(x, y, z);
+    }
+    return this.left.isIn(x, y, z) && !this.right.isIn(x, y, z);
+  }
+
+  /**
+   * an enum that contains set operations of the regions.
+   */
+  private enum Operation {
+
+    /**
+     * the intersection.
+     */
+    INTERSECTION,
+    /**
+     * the subtraction.
+     */
+    SUBTRACTION,
+    /**
+     * the union.
+     */
+    UNION
+  }
+}
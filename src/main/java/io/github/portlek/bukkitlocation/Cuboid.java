@@ -27,32 +27,78 @@ package io.github.portlek.bukkitlocation;
 
 import com.google.common.base.Preconditions;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.Getter;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.NumberConversions;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * a class that contains minimum and maximum location to make a cuboid.
  */
-public final class Cuboid {
+public final class Cuboid implements Region {
+
+  /**
+   * the maximum block x.
+   */
+  @Getter
+  private final int blockMaxX;
+
+  /**
+   * the maximum block y.
+   */
+  @Getter
+  private final int blockMaxY;
+
+  /**
+   * the maximum block z.
+   */
+  @Getter
+  private final int blockMaxZ;
+
+  /**
+   * the minimum block x.
+   */
+  @Getter
+  private final int blockMinX;
+
+  /**
+   * the minimum block y.
+   */
+  @Getter
+  private final int blockMinY;
+
+  /**
+   * the minimum block z.
+   */
+  @Getter
+  private final int blockMinZ;
 
   /**
    * the maximum x.
    */
+  @Getter
   private final double maxX;
 
   /**
    * the maximum y.
    */
+  @Getter
   private final double maxY;
 
   /**
    * the maximum z.
    */
+  @Getter
   private final double maxZ;
 
   /**
@@ -65,16 +111,19 @@ public final class Cuboid {
   /**
    * the minimum x.
    */
+  @Getter
   private final double minX;
 
   /**
    * the minimum y.
    */
+  @Getter
   private final double minY;
 
   /**
    * the minimum z.
    */
+  @Getter
   private final double minZ;
 
   /**
@@ -84,10 +133,26 @@ public final class Cuboid {
   @Getter
   private final Location minimumLocation;
 
+  /**
+   * the block count on the x axis.
+   */
+  private final int sizeX;
+
+  /**
+   * the block count on the y axis.
+   */
+  private final int sizeY;
+
+  /**
+   * the block count on the z axis.
+   */
+  private final int sizeZ;
+
   /**
    * the common world.
    */
   @NotNull
+  @Getter
   private final World world;
 
   /**
@@ -107,28 +172,82 @@ public final class Cuboid {
     this.maximumLocation = maximumLocation;
     this.world = minimumWorld;
     this.minX = Math.min(minimumLocation.getX(), maximumLocation.getX());
-    this.minY = Math.min(minimumLocation.getX(), maximumLocation.getX());
-    this.minZ = Math.min(minimumLocation.getX(), maximumLocation.getX());
+    this.minY = Math.min(minimumLocation.getY(), maximumLocation.getY());
+    this.minZ = Math.min(minimumLocation.getZ(), maximumLocation.getZ());
     this.maxX = Math.max(minimumLocation.getX(), maximumLocation.getX());
-    this.maxY = Math.max(minimumLocation.getX(), maximumLocation.getX());
-    this.maxZ = Math.max(minimumLocation.getX(), maximumLocation.getX());
+    this.maxY = Math.max(minimumLocation.getY(), maximumLocation.getY());
+    this.maxZ = Math.max(minimumLocation.getZ(), maximumLocation.getZ());
+    this.sizeX = NumberConversions.floor(this.maxX - this.minX) + 1;
+    this.sizeY = NumberConversions.floor(this.maxY - this.minY) + 1;
+    this.sizeZ = NumberConversions.floor(this.maxZ - this.minZ) + 1;
+    this.blockMinX = NumberConversions.floor(this.minX);
+    this.blockMinY = NumberConversions.floor(this.minY);
+    this.blockMinZ = NumberConversions.floor(this.minZ);
+    this.blockMaxX = this.blockMinX + this.sizeX - 1;
+    this.blockMaxY = this.blockMinY + this.sizeY - 1;
+    this.blockMaxZ = this.blockMinZ + this.sizeZ - 1;
   }
 
   /**
-   * obtains blocks inside the cuboid.
+   * obtains packed {@link BlockKey}s of the blocks inside the cuboid.
    *
-   * @return the block list within the cuboid.
+   * @return a block key set within the cuboid.
    */
   @NotNull
-  public List<Block> blocks() {
-    final var result = new ArrayList<Block>();
-    for (double x = this.minX; x <= this.maxX; ++x) {
-      for (double y = this.minY; y <= this.maxY; ++y) {
-        for (double z = this.minZ; z <= this.maxZ; ++z) {
-          result.add(this.world.getBlockAt(new Location(this.world, x, y, z)));
+  public LongHashSet blockKeys() {
+    final var keys = new LongHashSet(Math.toIntExact(this.volume()));
+    for (var x = 0; x < this.sizeX; x++) {
+      for (var y = 0; y < this.sizeY; y++) {
+        for (var z = 0; z < this.sizeZ; z++) {
+          keys.add(BlockKey.of(this.blockMinX + x, this.blockMinY + y, this.blockMinZ + z));
         }
       }
     }
+    return keys;
+  }
+
+  /**
+   * obtains a lazy iterator of the blocks inside the cuboid.
+   *
+   * @return a block iterator within the cuboid.
+   */
+  @NotNull
+  public Iterator<Block> blockIterator() {
+    return Spliterators.iterator(this.blockSpliterator());
+  }
+
+  /**
+   * obtains a lazy spliterator of the blocks inside the cuboid.
+   *
+   * @return a block spliterator within the cuboid.
+   */
+  @NotNull
+  public Spliterator<Block> blockSpliterator() {
+    return new CuboidSpliterator<>(0L, this.volume(), this::blockAt);
+  }
+
+  /**
+   * obtains a lazy stream of the blocks inside the cuboid.
+   *
+   * @return a block stream within the cuboid.
+   */
+  @NotNull
+  @Override
+  public Stream<Block> blockStream() {
+    return StreamSupport.stream(this.blockSpliterator(), false);
+  }
+
+  /**
+   * obtains blocks inside the cuboid.
+   *
+   * @return the block list within the cuboid.
+   */
+  @NotNull
+  public List<Block> blocks() {
+    final var start = Metrics.start();
+    final var result = new ArrayList<Block>(Math.toIntExact(this.volume()));
+    this.blockSpliterator().forEachRemaining(result::add);
+    Metrics.stop(MetricsOperation.CUBOID_BLOCKS, start, result.size());
     return result;
   }
 
@@ -160,17 +279,77 @@ public final class Cuboid {
       this.minZ + (this.maxZ - this.minZ) / 2.0d);
   }
 
+  @Override
+  public boolean containsBlock(final int x, final int y, final int z) {
+    return x >= this.blockMinX && x <= this.blockMaxX &&
+      y >= this.blockMinY && y <= this.blockMaxY &&
+      z >= this.blockMinZ && z <= this.blockMaxZ;
+  }
+
+  @NotNull
+  @Override
+  public BoundingBox getBoundingBox() {
+    return new BoundingBox(this.minX, this.minY, this.minZ, this.maxX, this.maxY, this.maxZ);
+  }
+
   /**
    * checks if the given location is in the cuboid.
+   * <p>
+   * the location has to be in the world of the cuboid.
    *
    * @param location the location to check.
    *
    * @return {@code true} if the given location is in the cuboid.
    */
+  @Override
   public boolean isIn(@NotNull final Location location) {
-    return location.getX() >= this.minX && location.getX() <= this.maxX &&
-      this.minY <= location.getY() && location.getY() <= this.maxY &&
-      this.minZ <= location.getZ() && location.getZ() <= this.maxZ;
+    return this.world.equals(location.getWorld()) && this.isIn(location.getX(), location.getY(), location.getZ());
+  }
+
+  /**
+   * checks if the given coordinates are in the cuboid.
+   *
+   * @param x the x to check.
+   * @param y the y to check.
+   * @param z the z to check.
+   *
+   * @return {@code true} if the given coordinates are in the cuboid.
+   */
+  @Override
+  public boolean isIn(final double x, final double y, final double z) {
+    return x >= this.minX && x <= this.maxX &&
+      this.minY <= y && y <= this.maxY &&
+      this.minZ <= z && z <= this.maxZ;
+  }
+
+  /**
+   * obtains a lazy iterator of the locations inside the cuboid.
+   *
+   * @return a location iterator within the cuboid.
+   */
+  @NotNull
+  public Iterator<Location> locationIterator() {
+    return Spliterators.iterator(this.locationSpliterator());
+  }
+
+  /**
+   * obtains a lazy spliterator of the locations inside the cuboid.
+   *
+   * @return a location spliterator within the cuboid.
+   */
+  @NotNull
+  public Spliterator<Location> locationSpliterator() {
+    return new CuboidSpliterator<>(0L, this.volume(), this::locationAt);
+  }
+
+  /**
+   * obtains a lazy stream of the locations inside the cuboid.
+   *
+   * @return a location stream within the cuboid.
+   */
+  @NotNull
+  public Stream<Location> locationStream() {
+    return StreamSupport.stream(this.locationSpliterator(), false);
   }
 
   /**
@@ -180,19 +359,16 @@ public final class Cuboid {
    */
   @NotNull
   public List<Location> locations() {
-    final var result = new ArrayList<Location>();
-    for (double x = this.minX; x <= this.maxX; ++x) {
-      for (double y = this.minY; y <= this.maxY; ++y) {
-        for (double z = this.minZ; z <= this.maxZ; ++z) {
-          result.add(new Location(this.world, x, y, z));
-        }
-      }
-    }
+    final var result = new ArrayList<Location>(Math.toIntExact(this.volume()));
+    this.locationSpliterator().forEachRemaining(result::add);
     return result;
   }
 
   /**
    * obtains a random block list from the given limit.
+   * <p>
+   * the blocks are picked from the bounds directly, so the cost depends on the limit instead of the volume. if
+   * duplicates are not allowed and the limit is not less than the volume, all blocks are returned in a random order.
    *
    * @param limit the limit to choose.
    * @param duplicate the duplicate to check if the block is already in the result list.
@@ -201,7 +377,30 @@ public final class Cuboid {
    */
   @NotNull
   public List<Block> randomBlocks(final int limit, final boolean duplicate) {
-    return RandomUtil.chooseRandoms(this.blocks(), limit, duplicate);
+    return this.randomBlocks(limit, duplicate, RandomSource.threadLocal());
+  }
+
+  /**
+   * obtains a random block list from the given limit using the given random source.
+   *
+   * @param limit the limit to choose.
+   * @param duplicate the duplicate to check if the block is already in the result list.
+   * @param random the random to choose.
+   *
+   * @return a random block list.
+   *
+   * @see #randomBlocks(int, boolean)
+   */
+  @NotNull
+  public List<Block> randomBlocks(final int limit, final boolean duplicate, @NotNull final RandomSource random) {
+    final var start = Metrics.start();
+    final var indexes = this.randomIndexes(limit, duplicate, random);
+    final var result = new ArrayList<Block>(indexes.length);
+    for (final var index : indexes) {
+      result.add(this.blockAt(index));
+    }
+    Metrics.stop(MetricsOperation.CUBOID_RANDOM_BLOCKS, start, result.size());
+    return result;
   }
 
   /**
@@ -211,25 +410,211 @@ public final class Cuboid {
    * @param duplicate the duplicate to check if the location is already in the result list.
    *
    * @return a random location list.
+   *
+   * @see #randomBlocks(int, boolean)
    */
   @NotNull
   public List<Location> randomLocations(final int limit, final boolean duplicate) {
-    return RandomUtil.chooseRandoms(this.locations(), limit, duplicate);
+    return this.randomLocations(limit, duplicate, RandomSource.threadLocal());
+  }
+
+  /**
+   * obtains a random location list from the given limit using the given random source.
+   *
+   * @param limit the limit to choose.
+   * @param duplicate the duplicate to check if the location is already in the result list.
+   * @param random the random to choose.
+   *
+   * @return a random location list.
+   *
+   * @see #randomLocations(int, boolean)
+   */
+  @NotNull
+  public List<Location> randomLocations(final int limit, final boolean duplicate,
+                                        @NotNull final RandomSource random) {
+    final var start = Metrics.start();
+    final var indexes = this.randomIndexes(limit, duplicate, random);
+    final var result = new ArrayList<Location>(indexes.length);
+    for (final var index : indexes) {
+      result.add(this.locationAt(index));
+    }
+    Metrics.stop(MetricsOperation.CUBOID_RANDOM_LOCATIONS, start, result.size());
+    return result;
   }
 
   /**
    * removes all blocks where are in the cuboid.
    */
   public void removeAll() {
-    this.blocks().forEach(block -> block.setType(Material.AIR));
+    final var start = Metrics.start();
+    final var changed = this.fill(Material.AIR, true, false);
+    Metrics.stop(MetricsOperation.CUBOID_REMOVE_ALL, start, changed);
+  }
+
+  /**
+   * removes all blocks where are in the cuboid.
+   * <p>
+   * unlike {@link #removeAll()}, air blocks are not touched.
+   *
+   * @param applyPhysics the apply physics to update the neighbour blocks.
+   *
+   * @return changed block count.
+   *
+   * @see #set(Material, boolean)
+   */
+  public long removeAll(final boolean applyPhysics) {
+    final var start = Metrics.start();
+    final var changed = this.fill(Material.AIR, applyPhysics, true);
+    Metrics.stop(MetricsOperation.CUBOID_REMOVE_ALL, start, changed);
+    return changed;
   }
 
   /**
    * sets all blocks inside the cuboid.
+   * <p>
+   * every block is set, so the blocks which already have the given material are reset to the default block data.
    *
    * @param material the material to set.
    */
   public void set(@NotNull final Material material) {
-    this.blocks().forEach(block -> block.setType(material));
+    final var start = Metrics.start();
+    final var changed = this.fill(material, true, false);
+    Metrics.stop(MetricsOperation.CUBOID_SET, start, changed);
+  }
+
+  /**
+   * sets all blocks inside the cuboid chunk by chunk and section by section.
+   * <p>
+   * unlike {@link #set(Material)}, blocks that already have the given material are not touched, so they keep their
+   * block data, e.g. the facing of stairs. turning {@code applyPhysics} off skips the physics updates of the neighbour
+   * blocks which makes large fills much cheaper.
+   *
+   * @param material the material to set.
+   * @param applyPhysics the apply physics to update the neighbour blocks.
+   *
+   * @return changed block count.
+   */
+  public long set(@NotNull final Material material, final boolean applyPhysics) {
+    final var start = Metrics.start();
+    final var changed = this.fill(material, applyPhysics, true);
+    Metrics.stop(MetricsOperation.CUBOID_SET, start, changed);
+    return changed;
+  }
+
+  /**
+   * obtains the block count inside the cuboid.
+   *
+   * @return block count of the cuboid.
+   */
+  public long volume() {
+    return (long) this.sizeX * this.sizeY * this.sizeZ;
+  }
+
+  /**
+   * sets all blocks inside the cuboid chunk by chunk and section by section.
+   *
+   * @param material the material to set.
+   * @param applyPhysics the apply physics to update the neighbour blocks.
+   * @param skipSame the skip same to not touch the blocks which already have the material.
+   *
+   * @return changed block count.
+   */
+  private long fill(@NotNull final Material material, final boolean applyPhysics, final boolean skipSame) {
+    final var iterator = this.sectionIterator();
+    var changed = 0L;
+    while (iterator.hasNext()) {
+      final var block = iterator.next();
+      if (!skipSame || block.getType() != material) {
+        block.setType(material, applyPhysics);
+        changed++;
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * chooses random block indexes of the cuboid.
+   *
+   * @param limit the limit to choose.
+   * @param duplicate the duplicate to allow choosing the same index more than once.
+   * @param random the random to choose.
+   *
+   * @return random indexes.
+   */
+  @NotNull
+  private long[] randomIndexes(final int limit, final boolean duplicate, @NotNull final RandomSource random) {
+    final var volume = this.volume();
+    if (limit <= 0) {
+      return new long[0];
+    }
+    if (duplicate) {
+      final var indexes = new long[limit];
+      for (var index = 0; index < limit; index++) {
+        indexes[index] = random.nextLong(volume);
+      }
+      return indexes;
+    }
+    if (limit >= volume) {
+      final var indexes = new long[Math.toIntExact(volume)];
+      for (var index = 0; index < indexes.length; index++) {
+        indexes[index] = index;
+      }
+      RandomUtil.shuffle(random, indexes);
+      return indexes;
+    }
+    final var chosen = new LongHashSet(limit);
+    final var indexes = new long[limit];
+    var size = 0;
+    for (var candidate = volume - limit; candidate < volume; candidate++) {
+      final var index = random.nextLong(candidate + 1L);
+      final var picked = chosen.contains(index) ? candidate : index;
+      chosen.add(picked);
+      indexes[size++] = picked;
+    }
+    RandomUtil.shuffle(random, indexes);
+    return indexes;
+  }
+
+  /**
+   * obtains a lazy iterator of the blocks inside the cuboid which visits them chunk by chunk and section by section.
+   *
+   * @return a chunk ordered block iterator within the cuboid.
+   */
+  @NotNull
+  Iterator<Block> sectionIterator() {
+    return new ChunkSectionIterator(this.world, this.blockMinX, this.blockMinY, this.blockMinZ,
+      this.blockMaxX, this.blockMaxY, this.blockMaxZ);
+  }
+
+  /**
+   * obtains the block at the given index.
+   *
+   * @param index the index to obtain.
+   *
+   * @return the block at the index.
+   */
+  @NotNull
+  private Block blockAt(final long index) {
+    final var z = (int) (index % this.sizeZ);
+    final var rest = index / this.sizeZ;
+    final var y = (int) (rest % this.sizeY);
+    final var x = (int) (rest / this.sizeY);
+    return this.world.getBlockAt(this.blockMinX + x, this.blockMinY + y, this.blockMinZ + z);
+  }
+
+  /**
+   * obtains the location at the given index.
+   *
+   * @param index the index to obtain.
+   *
+   * @return the location at the index.
+   */
+  @NotNull
+  private Location locationAt(final long index) {
+    final var z = index % this.sizeZ;
+    final var rest = index / this.sizeZ;
+    final var y = rest % this.sizeY;
+    final var x = rest / this.sizeY;
+    return new Location(this.world, this.minX + x, this.minY + y, this.minZ + z);
   }
 }
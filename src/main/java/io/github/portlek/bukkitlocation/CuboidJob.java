@@ -0,0 +1,271 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import com.google.common.base.Preconditions;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import lombok.Getter;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that runs a block operation over a {@link Cuboid} across many ticks.
+ * <p>
+ * the job must be started and observed from the main thread.
+ */
+public final class CuboidJob {
+
+  /**
+   * the budget of a tick.
+   */
+  @NotNull
+  private final TickBudget budget;
+
+  /**
+   * the future which completes with the changed block count.
+   */
+  @NotNull
+  private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+  /**
+   * the block iterator.
+   */
+  @NotNull
+  private final Iterator<Block> iterator;
+
+  /**
+   * the operation which returns {@code true} if it changed the block.
+   */
+  @NotNull
+  private final Predicate<Block> operation;
+
+  /**
+   * the plugin to schedule.
+   */
+  @NotNull
+  private final Plugin plugin;
+
+  /**
+   * the total block count.
+   */
+  @Getter
+  private final long total;
+
+  /**
+   * the changed block count.
+   */
+  @Getter
+  private long changed;
+
+  /**
+   * the processed block count.
+   */
+  @Getter
+  private long processed;
+
+  /**
+   * the progress listener.
+   */
+  @Nullable
+  private Consumer<CuboidJob> progressListener;
+
+  /**
+   * the task.
+   */
+  @Nullable
+  private BukkitTask task;
+
+  /**
+   * ctor.
+   *
+   * @param plugin the plugin to schedule.
+   * @param cuboid the cuboid to process.
+   * @param budget the budget of a tick.
+   * @param operation the operation which returns {@code true} if it changed the block.
+   */
+  public CuboidJob(@NotNull final Plugin plugin, @NotNull final Cuboid cuboid, @NotNull final TickBudget budget,
+                   @NotNull final Predicate<Block> operation) {
+    this.plugin = plugin;
+    this.budget = budget;
+    this.operation = operation;
+    this.iterator = cuboid.sectionIterator();
+    this.total = cuboid.volume();
+  }
+
+  /**
+   * creates a job that removes all blocks inside the cuboid.
+   *
+   * @param plugin the plugin to schedule.
+   * @param cuboid the cuboid to process.
+   * @param budget the budget of a tick.
+   * @param applyPhysics the apply physics to update the neighbour blocks.
+   *
+   * @return a new job instance.
+   */
+  @NotNull
+  public static CuboidJob removeAll(@NotNull final Plugin plugin, @NotNull final Cuboid cuboid,
+                                    @NotNull final TickBudget budget, final boolean applyPhysics) {
+    return CuboidJob.set(plugin, cuboid, budget, Material.AIR, applyPhysics);
+  }
+
+  /**
+   * creates a job that sets all blocks inside the cuboid.
+   *
+   * @param plugin the plugin to schedule.
+   * @param cuboid the cuboid to process.
+   * @param budget the budget of a tick.
+   * @param material the material to set.
+   * @param applyPhysics the apply physics to update the neighbour blocks.
+   *
+   * @return a new job instance.
+   */
+  @NotNull
+  public static CuboidJob set(@NotNull final Plugin plugin, @NotNull final Cuboid cuboid,
+                              @NotNull final TickBudget budget, @NotNull final Material material,
+                              final boolean applyPhysics) {
+    return new CuboidJob(plugin, cuboid, budget, block -> {
+      if (block.getType() == material) {
+        return false;
+      }
+      block.setType(material, applyPhysics);
+      return true;
+    });
+  }
+
+  /**
+   * cancels the job.
+   * <p>
+   * the future completes with a {@link java.util.concurrent.CancellationException}.
+   *
+   * @return {@code true} if the job was running.
+   */
+  public boolean cancel() {
+    if (this.task != null) {
+      this.task.cancel();
+    }
+    return this.future.cancel(false);
+  }
+
+  /**
+   * sets the listener which is called after every tick that the job worked.
+   *
+   * @param listener the listener to set.
+   *
+   * @return {@code this} for builder chain.
+   */
+  @NotNull
+  public CuboidJob onProgress(@NotNull final Consumer<CuboidJob> listener) {
+    this.progressListener = listener;
+    return this;
+  }
+
+  /**
+   * obtains the progress of the job.
+   *
+   * @return progress between {@code 0.0} and {@code 1.0}.
+   */
+  public double progress() {
+    if (this.total == 0L) {
+      return 1.0d;
+    }
+    return (double) this.processed / this.total;
+  }
+
+  /**
+   * starts the job.
+   * <p>
+   * if the operation or the progress listener throws, the job stops and the future completes with the exception.
+   *
+   * @return a future that completes with the changed block count.
+   *
+   * @throws IllegalStateException if the job is already started.
+   */
+  @NotNull
+  public CompletableFuture<Long> start() {
+    Preconditions.checkState(this.task == null, "The job is already started!");
+    this.task = this.plugin.getServer().getScheduler().runTaskTimer(this.plugin, this::tick, 0L, 1L);
+    return this.future;
+  }
+
+  /**
+   * obtains the future of the job.
+   *
+   * @return a future that completes with the changed block count.
+   */
+  @NotNull
+  public CompletableFuture<Long> future() {
+    return this.future;
+  }
+
+  /**
+   * runs the job for a single tick.
+   */
+  private void tick() {
+    if (this.future.isDone()) {
+      this.stop();
+      return;
+    }
+    final var deadline = System.nanoTime() + this.budget.getNanos();
+    var count = 0;
+    try {
+      while (this.iterator.hasNext() && count < this.budget.getBlocks() &&
+        (count == 0 || System.nanoTime() - deadline < 0L)) {
+        if (this.operation.test(this.iterator.next())) {
+          this.changed++;
+        }
+        count++;
+      }
+      this.processed += count;
+      if (this.progressListener != null) {
+        this.progressListener.accept(this);
+      }
+    } catch (final Throwable throwable) {
+      this.stop();
+      this.future.completeExceptionally(throwable);
+      return;
+    }
+    if (!this.iterator.hasNext()) {
+      this.stop();
+      this.future.complete(this.changed);
+    }
+  }
+
+  /**
+   * stops the task.
+   */
+  private void stop() {
+    if (this.task != null) {
+      this.task.cancel();
+    }
+  }
+}
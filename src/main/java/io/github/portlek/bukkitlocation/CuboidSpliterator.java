@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents lazy {@link Spliterator} which creates elements of a cuboid from their indexes.
+ *
+ * @param <T> type of the elements.
+ */
+final class CuboidSpliterator<T> implements Spliterator<T> {
+
+  /**
+   * the characteristics.
+   */
+  private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED |
+    Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+  /**
+   * the function to create elements.
+   */
+  @NotNull
+  private final LongFunction<T> function;
+
+  /**
+   * the last index, exclusive.
+   */
+  private final long fence;
+
+  /**
+   * the current index.
+   */
+  private long index;
+
+  /**
+   * ctor.
+   *
+   * @param index the first index.
+   * @param fence the last index, exclusive.
+   * @param function the function to create elements.
+   */
+  CuboidSpliterator(final long index, final long fence, @NotNull final LongFunction<T> function) {
+    this.index = index;
+    this.fence = fence;
+    this.function = function;
+  }
+
+  @Override
+  public int characteristics() {
+    return CuboidSpliterator.CHARACTERISTICS;
+  }
+
+  @Override
+  public long estimateSize() {
+    return this.fence - this.index;
+  }
+
+  @Override
+  public void forEachRemaining(@NotNull final Consumer<? super T> action) {
+    final var last = this.fence;
+    var current = this.index;
+    this.index = last;
+    for (; current < last; current++) {
+      action.accept(this.function.apply(current));
+    }
+  }
+
+  @Override
+  public boolean tryAdvance(@NotNull final Consumer<? super T> action) {
+    if (this.index >= this.fence) {
+      return false;
+    }
+    action.accept(this.function.apply(this.index++));
+    return true;
+  }
+
+  @Nullable
+  @Override
+  public Spliterator<T> trySplit() {
+    final var current = this.index;
+    final var middle = current + this.fence >>> 1;
+    if (middle <= current) {
+      return null;
+    }
+    this.index = middle;
+    return new CuboidSpliterator<>(current, middle, this.function);
+  }
+}
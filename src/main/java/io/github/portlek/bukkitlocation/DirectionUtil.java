@@ -25,8 +25,11 @@
 
 package io.github.portlek.bukkitlocation;
 
-import java.util.List;
+import com.google.common.base.Preconditions;
+import java.util.Collection;
 import org.bukkit.Location;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
@@ -35,12 +38,52 @@ import org.jetbrains.annotations.NotNull;
  */
 public final class DirectionUtil {
 
+  /**
+   * the horizontal block faces which start from the south and follow the yaw.
+   */
+  private static final BlockFace[] BLOCK_FACES = {
+    BlockFace.SOUTH, BlockFace.SOUTH_SOUTH_WEST, BlockFace.SOUTH_WEST, BlockFace.WEST_SOUTH_WEST,
+    BlockFace.WEST, BlockFace.WEST_NORTH_WEST, BlockFace.NORTH_WEST, BlockFace.NORTH_NORTH_WEST,
+    BlockFace.NORTH, BlockFace.NORTH_NORTH_EAST, BlockFace.NORTH_EAST, BlockFace.EAST_NORTH_EAST,
+    BlockFace.EAST, BlockFace.EAST_SOUTH_EAST, BlockFace.SOUTH_EAST, BlockFace.SOUTH_SOUTH_EAST};
+
+  /**
+   * the directions which start from the south and follow the yaw.
+   */
+  private static final Directions[] DIRECTIONS = {
+    Directions.SOUTH, Directions.WEST, Directions.NORTH, Directions.EAST};
+
+  /**
+   * the double directions which start from the south and follow the yaw.
+   */
+  private static final Directions[] DOUBLE_DIRECTIONS = {
+    Directions.SOUTH, Directions.SOUTHWEST, Directions.WEST, Directions.NORTHWEST,
+    Directions.NORTH, Directions.NORTHEAST, Directions.EAST, Directions.SOUTHEAST};
+
   /**
    * ctor.
    */
   private DirectionUtil() {
   }
 
+  /**
+   * obtains a horizontal {@link BlockFace} from the given yaw.
+   *
+   * @param yaw the yaw to obtain.
+   * @param sectors the sector count which is one of 1, 2, 4, 8 and 16.
+   *
+   * @return block face of the given yaw.
+   *
+   * @throws IllegalArgumentException if the sector count does not divide the horizontal block faces.
+   */
+  @NotNull
+  public static BlockFace blockFaceOf(final float yaw, final int sectors) {
+    Preconditions.checkArgument(sectors > 0 && DirectionUtil.BLOCK_FACES.length % sectors == 0,
+      "Sector count must be one of 1, 2, 4, 8 and 16!");
+    final var step = DirectionUtil.BLOCK_FACES.length / sectors;
+    return DirectionUtil.BLOCK_FACES[DirectionUtil.sector(yaw, sectors) * step];
+  }
+
   /**
    * obtains a {@link Directions} from the given player.
    *
@@ -74,12 +117,38 @@ public final class DirectionUtil {
    */
   @NotNull
   public static Directions directionOf(final float yaw) {
-    final var directions = List.of(
-      Directions.SOUTH,
-      Directions.WEST,
-      Directions.NORTH,
-      Directions.EAST);
-    return DirectionUtil.directionOf(directions, yaw);
+    return DirectionUtil.DIRECTIONS[DirectionUtil.sector(yaw, DirectionUtil.DIRECTIONS.length)];
+  }
+
+  /**
+   * obtains {@link Directions} of the given entities into the given array.
+   * <p>
+   * the locations of the entities are read into a single reused location.
+   *
+   * @param entities the entities to obtain.
+   * @param out the array to fill in the iteration order of the entities.
+   *
+   * @return filled element count.
+   *
+   * @throws IllegalArgumentException if the array is shorter than the entities.
+   */
+  public static int directionsOf(@NotNull final Collection<? extends Entity> entities,
+                                 @NotNull final Directions[] out) {
+    return DirectionUtil.fill(entities, DirectionUtil.DIRECTIONS, out);
+  }
+
+  /**
+   * obtains {@link Directions} of the given yaws into the given array.
+   *
+   * @param yaws the yaws to obtain.
+   * @param out the array to fill.
+   *
+   * @return filled element count.
+   *
+   * @throws IllegalArgumentException if the array is shorter than the yaws.
+   */
+  public static int directionsOf(@NotNull final float[] yaws, @NotNull final Directions[] out) {
+    return DirectionUtil.fill(yaws, DirectionUtil.DIRECTIONS, out);
   }
 
   /**
@@ -115,41 +184,173 @@ public final class DirectionUtil {
    */
   @NotNull
   public static Directions doubleDirectionOf(final float yaw) {
-    final var directions = List.of(
-      Directions.SOUTH,
-      Directions.SOUTHWEST,
-      Directions.WEST,
-      Directions.NORTHWEST,
-      Directions.NORTH,
-      Directions.NORTHEAST,
-      Directions.EAST,
-      Directions.SOUTHEAST);
-    return DirectionUtil.doubleDirectionOf(directions, yaw);
+    return DirectionUtil.DOUBLE_DIRECTIONS[DirectionUtil.sector(yaw, DirectionUtil.DOUBLE_DIRECTIONS.length)];
   }
 
   /**
-   * obtains a {@link Directions} from the given direction list with the given yaw.
+   * obtains double {@link Directions} of the given entities into the given array.
+   * <p>
+   * the locations of the entities are read into a single reused location.
    *
-   * @param directions the directions to obtain.
-   * @param yaw the yaw to obtain.
+   * @param entities the entities to obtain.
+   * @param out the array to fill in the iteration order of the entities.
+   *
+   * @return filled element count.
    *
-   * @return direction of the yaw from the direction list.
+   * @throws IllegalArgumentException if the array is shorter than the entities.
    */
-  @NotNull
-  private static Directions directionOf(@NotNull final List<Directions> directions, final float yaw) {
-    return directions.get((int) (yaw + 45.0f) % 360 / 90);
+  public static int doubleDirectionsOf(@NotNull final Collection<? extends Entity> entities,
+                                       @NotNull final Directions[] out) {
+    return DirectionUtil.fill(entities, DirectionUtil.DOUBLE_DIRECTIONS, out);
   }
 
   /**
-   * obtains a double {@link Directions} from the given direction list with the given yaw.
+   * obtains double {@link Directions} of the given yaws into the given array.
    *
-   * @param directions the directions to obtain.
-   * @param yaw the yaw to obtain.
+   * @param yaws the yaws to obtain.
+   * @param out the array to fill.
+   *
+   * @return filled element count.
    *
-   * @return direction of the yaw from the direction list.
+   * @throws IllegalArgumentException if the array is shorter than the yaws.
    */
-  @NotNull
-  private static Directions doubleDirectionOf(@NotNull final List<Directions> directions, final float yaw) {
-    return directions.get((int) (yaw + 22.5f) % 360 / 45);
+  public static int doubleDirectionsOf(@NotNull final float[] yaws, @NotNull final Directions[] out) {
+    return DirectionUtil.fill(yaws, DirectionUtil.DOUBLE_DIRECTIONS, out);
+  }
+
+  /**
+   * normalizes the given yaw into from 0 to 360.
+   *
+   * @param yaw the yaw to normalize.
+   *
+   * @return normalized yaw which is not negative.
+   */
+  public static float normalizeYaw(final float yaw) {
+    final var wrapped = yaw % 360.0f;
+    return wrapped < 0.0f ? wrapped + 360.0f : wrapped;
+  }
+
+  /**
+   * quantizes the given yaw into the given count of equal sectors.
+   * <p>
+   * the sector 0 is centered on the south and the sectors follow the yaw, so the sector {@code sectors / 4} is
+   * centered on the west. negative yaws and yaws which are bigger than 360 are wrapped.
+   *
+   * @param yaw the yaw to quantize.
+   * @param sectors the sector count.
+   *
+   * @return sector index of the given yaw from 0 to {@code sectors - 1}.
+   *
+   * @throws IllegalArgumentException if the sector count is not positive.
+   */
+  public static int sectorOf(final float yaw, final int sectors) {
+    Preconditions.checkArgument(sectors > 0, "Sector count must be positive!");
+    return DirectionUtil.sector(yaw, sectors);
+  }
+
+  /**
+   * quantizes the given yaws into the given count of equal sectors.
+   *
+   * @param yaws the yaws to quantize.
+   * @param sectors the sector count.
+   * @param out the array to fill.
+   *
+   * @return filled element count.
+   *
+   * @throws IllegalArgumentException if the sector count is not positive or the array is shorter than the yaws.
+   *
+   * @see #sectorOf(float, int)
+   */
+  public static int sectorsOf(@NotNull final float[] yaws, final int sectors, @NotNull final int[] out) {
+    Preconditions.checkArgument(sectors > 0, "Sector count must be positive!");
+    DirectionUtil.checkLength(yaws.length, out.length);
+    for (var index = 0; index < yaws.length; index++) {
+      out[index] = DirectionUtil.sector(yaws[index], sectors);
+    }
+    return yaws.length;
+  }
+
+  /**
+   * reads yaws of the given entities into the given array.
+   * <p>
+   * the locations of the entities are read into a single reused location.
+   *
+   * @param entities the entities to read.
+   * @param out the array to fill in the iteration order of the entities.
+   *
+   * @return filled element count.
+   *
+   * @throws IllegalArgumentException if the array is shorter than the entities.
+   */
+  public static int yawsOf(@NotNull final Collection<? extends Entity> entities, @NotNull final float[] out) {
+    DirectionUtil.checkLength(entities.size(), out.length);
+    final var scratch = new Location(null, 0.0d, 0.0d, 0.0d);
+    var index = 0;
+    for (final var entity : entities) {
+      out[index++] = entity.getLocation(scratch).getYaw();
+    }
+    return index;
+  }
+
+  /**
+   * checks if the output array can hold the input.
+   *
+   * @param length the input length.
+   * @param outLength the output length.
+   */
+  private static void checkLength(final int length, final int outLength) {
+    Preconditions.checkArgument(outLength >= length, "Output array is shorter than the input (%s < %s)!",
+      outLength, length);
+  }
+
+  /**
+   * fills the given array with the directions of the given entities.
+   *
+   * @param entities the entities to fill.
+   * @param table the direction table.
+   * @param out the array to fill.
+   *
+   * @return filled element count.
+   */
+  private static int fill(@NotNull final Collection<? extends Entity> entities, @NotNull final Directions[] table,
+                          @NotNull final Directions[] out) {
+    DirectionUtil.checkLength(entities.size(), out.length);
+    final var scratch = new Location(null, 0.0d, 0.0d, 0.0d);
+    var index = 0;
+    for (final var entity : entities) {
+      out[index++] = table[DirectionUtil.sector(entity.getLocation(scratch).getYaw(), table.length)];
+    }
+    return index;
+  }
+
+  /**
+   * fills the given array with the directions of the given yaws.
+   *
+   * @param yaws the yaws to fill.
+   * @param table the direction table.
+   * @param out the array to fill.
+   *
+   * @return filled element count.
+   */
+  private static int fill(@NotNull final float[] yaws, @NotNull final Directions[] table,
+                          @NotNull final Directions[] out) {
+    DirectionUtil.checkLength(yaws.length, out.length);
+    for (var index = 0; index < yaws.length; index++) {
+      out[index] = table[DirectionUtil.sector(yaws[index], table.length)];
+    }
+    return yaws.length;
+  }
+
+  /**
+   * quantizes the given yaw without checking the sector count.
+   *
+   * @param yaw the yaw to quantize.
+   * @param sectors the sector count.
+   *
+   * @return sector index of the given yaw.
+   */
+  private static int sector(final float yaw, final int sectors) {
+    final var width = 360.0d / sectors;
+    return (int) ((DirectionUtil.normalizeYaw(yaw) + width * 0.5d) / width) % sectors;
   }
 }
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * an implementation of {@link MetricsRecorder} that keeps a {@link LatencyHistogram} for each operation in memory.
+ * <p>
+ * the operations are counted in total and for each plugin which runs them, plugins are kept by their names so
+ * reloaded plugins are not retained.
+ */
+public final class HistogramMetricsRecorder implements MetricsRecorder {
+
+  /**
+   * the histograms of the plugins.
+   */
+  @NotNull
+  private final Map<String, Map<MetricsOperation, LatencyHistogram>> plugins = new ConcurrentHashMap<>();
+
+  /**
+   * the histograms of all plugins.
+   */
+  @NotNull
+  private final Map<MetricsOperation, LatencyHistogram> total = HistogramMetricsRecorder.histograms();
+
+  /**
+   * obtains the histogram of the given operation.
+   *
+   * @param operation the operation to obtain.
+   *
+   * @return histogram of the operation, which contains the operations of all plugins.
+   */
+  @NotNull
+  public LatencyHistogram histogram(@NotNull final MetricsOperation operation) {
+    return this.total.get(operation);
+  }
+
+  /**
+   * obtains the histogram of the given operation which is run by the given plugin.
+   *
+   * @param plugin the plugin name to obtain.
+   * @param operation the operation to obtain.
+   *
+   * @return histogram of the operation or an empty optional if the plugin has not run any operation.
+   */
+  @NotNull
+  public Optional<LatencyHistogram> histogram(@NotNull final String plugin,
+                                              @NotNull final MetricsOperation operation) {
+    return Optional.ofNullable(this.plugins.get(plugin))
+      .map(histograms -> histograms.get(operation));
+  }
+
+  /**
+   * obtains names of the plugins which have run an operation.
+   *
+   * @return plugin names.
+   */
+  @NotNull
+  public Set<String> plugins() {
+    return Set.copyOf(this.plugins.keySet());
+  }
+
+  @Override
+  public void record(@NotNull final MetricsOperation operation, @Nullable final Plugin plugin, final long nanos,
+                     final long elements) {
+    this.total.get(operation).record(nanos, elements);
+    if (plugin != null) {
+      this.plugins.computeIfAbsent(plugin.getName(), name -> HistogramMetricsRecorder.histograms())
+        .get(operation)
+        .record(nanos, elements);
+    }
+  }
+
+  /**
+   * clears the histograms of all operations and forgets the plugins.
+   */
+  public void reset() {
+    this.total.values().forEach(LatencyHistogram::reset);
+    this.plugins.clear();
+  }
+
+  /**
+   * creates a histogram for each operation.
+   *
+   * @return histograms of the operations.
+   */
+  @NotNull
+  private static Map<MetricsOperation, LatencyHistogram> histograms() {
+    final var histograms = new EnumMap<MetricsOperation, LatencyHistogram>(MetricsOperation.class);
+    for (final var operation : MetricsOperation.values()) {
+      histograms.put(operation, new LatencyHistogram());
+    }
+    return histograms;
+  }
+}
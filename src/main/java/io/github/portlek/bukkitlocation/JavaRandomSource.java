@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import java.util.Random;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an implementation of {@link RandomSource} that uses {@link Random}.
+ */
+final class JavaRandomSource implements RandomSource {
+
+  /**
+   * the random.
+   */
+  @NotNull
+  private final Random random;
+
+  /**
+   * ctor.
+   *
+   * @param random the random.
+   */
+  JavaRandomSource(@NotNull final Random random) {
+    this.random = random;
+  }
+
+  @Override
+  public double nextDouble() {
+    return this.random.nextDouble();
+  }
+
+  @Override
+  public int nextInt(final int bound) {
+    return this.random.nextInt(bound);
+  }
+
+  @Override
+  public long nextLong(final long bound) {
+    if (bound <= 0L) {
+      throw new IllegalArgumentException("Bound must be positive!");
+    }
+    final var mask = bound - 1L;
+    var result = this.random.nextLong();
+    if ((bound & mask) == 0L) {
+      return result & mask;
+    }
+    var unsigned = result >>> 1;
+    result = unsigned % bound;
+    while (unsigned + mask - result < 0L) {
+      unsigned = this.random.nextLong() >>> 1;
+      result = unsigned % bound;
+    }
+    return result;
+  }
+
+  @NotNull
+  @Override
+  public RandomSource split() {
+    return this;
+  }
+}
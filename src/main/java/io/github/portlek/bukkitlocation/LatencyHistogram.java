@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * a class that counts the latencies of an operation in power of two buckets.
+ * <p>
+ * the recording is lock-free and allocation-free. the percentiles are the upper bounds of the buckets, so they are
+ * at most twice of the exact values.
+ */
+public final class LatencyHistogram {
+
+  /**
+   * the bucket count, the bucket {@code i} contains the latencies which have {@code i} significant bits.
+   */
+  private static final int BUCKETS = Long.SIZE;
+
+  /**
+   * the bucket counts.
+   */
+  private final AtomicLongArray buckets = new AtomicLongArray(LatencyHistogram.BUCKETS);
+
+  /**
+   * the operation count.
+   */
+  private final LongAdder count = new LongAdder();
+
+  /**
+   * the element count.
+   */
+  private final LongAdder elements = new LongAdder();
+
+  /**
+   * the maximum latency.
+   */
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  /**
+   * the total latency.
+   */
+  private final LongAdder totalNanos = new LongAdder();
+
+  /**
+   * obtains the recorded operation count.
+   *
+   * @return operation count.
+   */
+  public long count() {
+    return this.count.sum();
+  }
+
+  /**
+   * obtains the total element count of the recorded operations.
+   *
+   * @return element count.
+   */
+  public long elements() {
+    return this.elements.sum();
+  }
+
+  /**
+   * obtains the maximum latency.
+   *
+   * @return maximum latency in nanoseconds.
+   */
+  public long maxNanos() {
+    return this.maxNanos.get();
+  }
+
+  /**
+   * obtains the mean latency.
+   *
+   * @return mean latency in nanoseconds or {@code 0.0} if nothing is recorded.
+   */
+  public double meanNanos() {
+    final var count = this.count();
+    if (count == 0L) {
+      return 0.0d;
+    }
+    return (double) this.totalNanos() / count;
+  }
+
+  /**
+   * obtains the latency which the given fraction of the operations do not exceed.
+   *
+   * @param fraction the fraction between {@code 0.0} and {@code 1.0}, e.g. {@code 0.99}.
+   *
+   * @return upper bound of the percentile in nanoseconds or {@code 0} if nothing is recorded.
+   *
+   * @throws IllegalArgumentException if the fraction is not between {@code 0.0} and {@code 1.0}.
+   */
+  public long percentile(final double fraction) {
+    Preconditions.checkArgument(fraction >= 0.0d && fraction <= 1.0d,
+      "The fraction must be between 0.0 and 1.0!");
+    var total = 0L;
+    for (var index = 0; index < LatencyHistogram.BUCKETS; index++) {
+      total += this.buckets.get(index);
+    }
+    final var target = Math.max(1L, (long) Math.ceil(total * fraction));
+    var seen = 0L;
+    for (var index = 0; index < LatencyHistogram.BUCKETS; index++) {
+      seen += this.buckets.get(index);
+      if (seen >= target) {
+        return Math.min(LatencyHistogram.upperBound(index), this.maxNanos());
+      }
+    }
+    return 0L;
+  }
+
+  /**
+   * records an operation.
+   *
+   * @param nanos the elapsed nanoseconds.
+   * @param elements the element count which is processed by the operation.
+   */
+  public void record(final long nanos, final long elements) {
+    final var latency = Math.max(0L, nanos);
+    this.buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(latency));
+    this.count.increment();
+    this.elements.add(elements);
+    this.totalNanos.add(latency);
+    this.maxNanos.accumulateAndGet(latency, Math::max);
+  }
+
+  /**
+   * clears the recorded operations.
+   * <p>
+   * operations which are recorded at the same time may be partially cleared.
+   */
+  public void reset() {
+    for (var index = 0; index < LatencyHistogram.BUCKETS; index++) {
+      this.buckets.set(index, 0L);
+    }
+    this.count.reset();
+    this.elements.reset();
+    this.totalNanos.reset();
+    this.maxNanos.set(0L);
+  }
+
+  /**
+   * obtains the total latency.
+   *
+   * @return total latency in nanoseconds.
+   */
+  public long totalNanos() {
+    return this.totalNanos.sum();
+  }
+
+  /**
+   * obtains the largest latency of the given bucket.
+   *
+   * @param bucket the bucket to obtain.
+   *
+   * @return upper bound of the bucket.
+   */
+  private static long upperBound(final int bucket) {
+    return bucket == Long.SIZE - 1 ? Long.MAX_VALUE : (1L << bucket) - 1L;
+  }
+}
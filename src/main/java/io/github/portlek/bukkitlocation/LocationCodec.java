@@ -0,0 +1,373 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import com.google.common.base.Preconditions;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents compact binary codec of {@link Location}s.
+ * <p>
+ * a location starts with a varint header that contains the world id and the flags, continues with the coordinates
+ * as three ints when all of them are whole numbers or as three doubles otherwise, and ends with the yaw and the
+ * pitch as floats when any of them is not zero. so a block location takes 13 bytes and a full location takes 33
+ * bytes with a small world id.
+ * <p>
+ * world ids are supplied by the caller, so they can be kept stable across restarts. the codec is thread-safe when
+ * the given functions are.
+ */
+public final class LocationCodec {
+
+  /**
+   * the flag of whole number coordinates.
+   */
+  private static final int BLOCK = 1;
+
+  /**
+   * the bit count of the flags in the header.
+   */
+  private static final int FLAG_BITS = 2;
+
+  /**
+   * the largest byte count of a varint that holds a long.
+   */
+  private static final int MAX_VARINT_BYTES = 10;
+
+  /**
+   * the flag of the rotation.
+   */
+  private static final int ROTATION = 2;
+
+  /**
+   * the world id function.
+   */
+  @NotNull
+  private final ToIntFunction<World> worldIds;
+
+  /**
+   * the world function.
+   */
+  @NotNull
+  private final IntFunction<World> worlds;
+
+  /**
+   * ctor.
+   *
+   * @param worldIds the world id function which returns non-negative ids.
+   * @param worlds the world function which may return {@code null} for unknown ids.
+   */
+  public LocationCodec(@NotNull final ToIntFunction<World> worldIds, @NotNull final IntFunction<World> worlds) {
+    this.worldIds = worldIds;
+    this.worlds = worlds;
+  }
+
+  /**
+   * decodes the locations which are encoded with {@link #encode(List, ByteBuffer)}.
+   *
+   * @param buffer the buffer to read.
+   *
+   * @return decoded locations.
+   *
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the locations.
+   * @throws IllegalArgumentException if the buffer is malformed.
+   */
+  @NotNull
+  public List<Location> decode(@NotNull final ByteBuffer buffer) {
+    return this.decode(buffer, new ArrayList<>());
+  }
+
+  /**
+   * decodes the locations which are encoded with {@link #encode(List, ByteBuffer)} into the given list.
+   * <p>
+   * locations which are already in the list are reused, extra locations are removed.
+   *
+   * @param buffer the buffer to read.
+   * @param locations the locations to fill.
+   *
+   * @return the given list.
+   *
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the locations.
+   * @throws IllegalArgumentException if the buffer is malformed.
+   */
+  @NotNull
+  public List<Location> decode(@NotNull final ByteBuffer buffer, @NotNull final List<Location> locations) {
+    final var count = LocationCodec.readVarInt(buffer);
+    Preconditions.checkArgument(count >= 0, "Location count cannot be negative!");
+    final var reused = Math.min(count, locations.size());
+    for (var index = 0; index < reused; index++) {
+      this.read(buffer, locations.get(index));
+    }
+    for (var index = reused; index < count; index++) {
+      locations.add(this.read(buffer, null));
+    }
+    if (locations.size() > count) {
+      locations.subList(count, locations.size()).clear();
+    }
+    return locations;
+  }
+
+  /**
+   * encodes the given locations into the given buffer.
+   *
+   * @param locations the locations to encode.
+   * @param buffer the buffer to write.
+   *
+   * @throws java.nio.BufferOverflowException if the buffer does not have enough space.
+   * @throws IllegalStateException if any of the locations has not a world.
+   *
+   * @see #size(List)
+   */
+  public void encode(@NotNull final List<Location> locations, @NotNull final ByteBuffer buffer) {
+    LocationCodec.writeVarLong(buffer, locations.size());
+    for (final var location : locations) {
+      this.write(location, buffer);
+    }
+  }
+
+  /**
+   * reads a location.
+   *
+   * @param buffer the buffer to read.
+   *
+   * @return a new location.
+   *
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the location.
+   * @throws IllegalArgumentException if the buffer is malformed.
+   */
+  @NotNull
+  public Location read(@NotNull final ByteBuffer buffer) {
+    return this.read(buffer, null);
+  }
+
+  /**
+   * reads a location into the given location.
+   *
+   * @param buffer the buffer to read.
+   * @param reuse the location to fill, or {@code null} to create a new one.
+   *
+   * @return the given location or a new one.
+   *
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the location.
+   * @throws IllegalArgumentException if the buffer is malformed.
+   */
+  @NotNull
+  public Location read(@NotNull final ByteBuffer buffer, @Nullable final Location reuse) {
+    final var header = LocationCodec.readVarLong(buffer);
+    final var id = header >>> LocationCodec.FLAG_BITS;
+    Preconditions.checkArgument(id <= Integer.MAX_VALUE, "Invalid world id %s!", id);
+    final var world = this.worlds.apply((int) id);
+    final double x;
+    final double y;
+    final double z;
+    if ((header & LocationCodec.BLOCK) != 0) {
+      x = buffer.getInt();
+      y = buffer.getInt();
+      z = buffer.getInt();
+    } else {
+      x = buffer.getDouble();
+      y = buffer.getDouble();
+      z = buffer.getDouble();
+    }
+    var yaw = 0.0f;
+    var pitch = 0.0f;
+    if ((header & LocationCodec.ROTATION) != 0) {
+      yaw = buffer.getFloat();
+      pitch = buffer.getFloat();
+    }
+    if (reuse == null) {
+      return new Location(world, x, y, z, yaw, pitch);
+    }
+    reuse.setWorld(world);
+    reuse.setX(x);
+    reuse.setY(y);
+    reuse.setZ(z);
+    reuse.setYaw(yaw);
+    reuse.setPitch(pitch);
+    return reuse;
+  }
+
+  /**
+   * calculates the encoded size of the given location.
+   *
+   * @param location the location to calculate.
+   *
+   * @return byte count of the location.
+   *
+   * @throws IllegalStateException if the location has not a world.
+   */
+  public int size(@NotNull final Location location) {
+    final var header = this.header(location);
+    var size = LocationCodec.varLongSize(header);
+    size += (header & LocationCodec.BLOCK) != 0 ? Integer.BYTES * 3 : Double.BYTES * 3;
+    if ((header & LocationCodec.ROTATION) != 0) {
+      size += Float.BYTES * 2;
+    }
+    return size;
+  }
+
+  /**
+   * calculates the encoded size of the given locations.
+   *
+   * @param locations the locations to calculate.
+   *
+   * @return byte count of the locations.
+   *
+   * @throws IllegalStateException if any of the locations has not a world.
+   */
+  public int size(@NotNull final List<Location> locations) {
+    var size = LocationCodec.varLongSize(locations.size());
+    for (final var location : locations) {
+      size += this.size(location);
+    }
+    return size;
+  }
+
+  /**
+   * writes the given location.
+   *
+   * @param location the location to write.
+   * @param buffer the buffer to write.
+   *
+   * @throws java.nio.BufferOverflowException if the buffer does not have enough space.
+   * @throws IllegalStateException if the location has not a world.
+   */
+  public void write(@NotNull final Location location, @NotNull final ByteBuffer buffer) {
+    final var header = this.header(location);
+    LocationCodec.writeVarLong(buffer, header);
+    if ((header & LocationCodec.BLOCK) != 0) {
+      buffer.putInt((int) location.getX());
+      buffer.putInt((int) location.getY());
+      buffer.putInt((int) location.getZ());
+    } else {
+      buffer.putDouble(location.getX());
+      buffer.putDouble(location.getY());
+      buffer.putDouble(location.getZ());
+    }
+    if ((header & LocationCodec.ROTATION) != 0) {
+      buffer.putFloat(location.getYaw());
+      buffer.putFloat(location.getPitch());
+    }
+  }
+
+  /**
+   * checks if the given value is a whole number which survives an int round trip.
+   *
+   * @param value the value to check.
+   *
+   * @return {@code true} if the value is a whole number.
+   */
+  private static boolean isWhole(final double value) {
+    final var whole = (int) value;
+    return whole == value && (whole != 0 || Double.doubleToRawLongBits(value) == 0L);
+  }
+
+  /**
+   * reads an int varint.
+   *
+   * @param buffer the buffer to read.
+   *
+   * @return read value.
+   */
+  private static int readVarInt(@NotNull final ByteBuffer buffer) {
+    final var value = LocationCodec.readVarLong(buffer);
+    Preconditions.checkArgument(value <= Integer.MAX_VALUE, "Invalid varint %s!", value);
+    return (int) value;
+  }
+
+  /**
+   * reads a long varint.
+   *
+   * @param buffer the buffer to read.
+   *
+   * @return read value.
+   */
+  private static long readVarLong(@NotNull final ByteBuffer buffer) {
+    var value = 0L;
+    for (var index = 0; index < LocationCodec.MAX_VARINT_BYTES; index++) {
+      final var current = buffer.get();
+      value |= (long) (current & 0x7F) << index * 7;
+      if ((current & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Varint is too long!");
+  }
+
+  /**
+   * calculates the byte count of the given varint.
+   *
+   * @param value the value to calculate.
+   *
+   * @return byte count of the value.
+   */
+  private static int varLongSize(final long value) {
+    return Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7);
+  }
+
+  /**
+   * writes a long varint.
+   *
+   * @param buffer the buffer to write.
+   * @param value the value to write.
+   */
+  private static void writeVarLong(@NotNull final ByteBuffer buffer, final long value) {
+    var remaining = value;
+    while ((remaining & ~0x7FL) != 0L) {
+      buffer.put((byte) (remaining & 0x7F | 0x80));
+      remaining >>>= 7;
+    }
+    buffer.put((byte) remaining);
+  }
+
+  /**
+   * creates the header of the given location.
+   *
+   * @param location the location to create.
+   *
+   * @return header of the location.
+   */
+  private long header(@NotNull final Location location) {
+    final var id = this.worldIds.applyAsInt(LocationUtil.validWorld(location));
+    Preconditions.checkArgument(id >= 0, "World id cannot be negative!");
+    var header = (long) id << LocationCodec.FLAG_BITS;
+    if (LocationCodec.isWhole(location.getX()) && LocationCodec.isWhole(location.getY()) &&
+      LocationCodec.isWhole(location.getZ())) {
+      header |= LocationCodec.BLOCK;
+    }
+    if (location.getYaw() != 0.0f || location.getPitch() != 0.0f) {
+      header |= LocationCodec.ROTATION;
+    }
+    return header;
+  }
+}
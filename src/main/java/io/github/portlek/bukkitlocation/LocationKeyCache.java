@@ -0,0 +1,314 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import com.google.common.base.Preconditions;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that caches the conversions of {@link LocationUtil#fromKey(String)} and
+ * {@link LocationUtil#toKey(Location)}.
+ * <p>
+ * the cache is split into segments which evict their least recently used entries, so it is thread-safe without a
+ * global lock. small caches use fewer segments, so every segment can keep at least one entry. parsed keys are kept
+ * as {@link UnresolvedLocation}s and every hit returns a new {@link Location}, so callers can modify the returned
+ * locations and worlds which are loaded later are still resolved.
+ */
+public final class LocationKeyCache {
+
+  /**
+   * the maximum segment count, a power of two.
+   */
+  private static final int SEGMENTS = 16;
+
+  /**
+   * the formatted keys.
+   */
+  @NotNull
+  private final Segment<UnresolvedLocation, String>[] formatted;
+
+  /**
+   * the hit count.
+   */
+  private final LongAdder hits = new LongAdder();
+
+  /**
+   * the miss count.
+   */
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * the parsed keys.
+   */
+  @NotNull
+  private final Segment<String, UnresolvedLocation>[] parsed;
+
+  /**
+   * the function to find worlds by their names.
+   */
+  @NotNull
+  private final Function<String, World> worlds;
+
+  /**
+   * ctor.
+   *
+   * @param maximumSize the maximum entry count of each direction.
+   * @param worlds the function to find worlds by their names.
+   */
+  @SuppressWarnings("unchecked")
+  private LocationKeyCache(final int maximumSize, @NotNull final Function<String, World> worlds) {
+    Preconditions.checkArgument(maximumSize > 0, "Maximum size must be positive!");
+    this.worlds = worlds;
+    final var segments = Math.min(LocationKeyCache.SEGMENTS, Integer.highestOneBit(maximumSize));
+    this.formatted = new Segment[segments];
+    this.parsed = new Segment[segments];
+    for (var index = 0; index < segments; index++) {
+      final var segmentSize = maximumSize / segments + (index < maximumSize % segments ? 1 : 0);
+      this.formatted[index] = new Segment<>(segmentSize);
+      this.parsed[index] = new Segment<>(segmentSize);
+    }
+  }
+
+  /**
+   * ctor.
+   *
+   * @param maximumSize the maximum entry count of each direction.
+   */
+  public LocationKeyCache(final int maximumSize) {
+    this(maximumSize, Bukkit::getWorld);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param maximumSize the maximum entry count of each direction.
+   * @param worlds the cache to find worlds.
+   */
+  public LocationKeyCache(final int maximumSize, @NotNull final WorldCache worlds) {
+    this(maximumSize, worlds::getWorld);
+  }
+
+  /**
+   * removes all entries.
+   */
+  public void clear() {
+    for (var index = 0; index < this.formatted.length; index++) {
+      this.formatted[index].clear();
+      this.parsed[index].clear();
+    }
+  }
+
+  /**
+   * converts the given key into a {@link Location}.
+   *
+   * @param key the key to convert.
+   *
+   * @return a new {@link Location} instance.
+   *
+   * @see LocationUtil#fromKey(String)
+   */
+  @NotNull
+  public Optional<Location> fromKey(@NotNull final String key) {
+    final var segment = LocationKeyCache.segment(this.parsed, key);
+    var location = segment.find(key);
+    if (location == null) {
+      this.misses.increment();
+      final var optional = LocationUtil.unresolvedFromKey(key);
+      if (optional.isEmpty()) {
+        return Optional.empty();
+      }
+      location = optional.get();
+      segment.store(key, location);
+    } else {
+      this.hits.increment();
+    }
+    final var world = this.worlds.apply(location.getWorldName());
+    return Optional.of(new Location(world, location.getX(), location.getY(), location.getZ(), location.getYaw(),
+      location.getPitch()));
+  }
+
+  /**
+   * obtains the hit count.
+   *
+   * @return hit count of both directions.
+   */
+  public long hitCount() {
+    return this.hits.sum();
+  }
+
+  /**
+   * calculates the hit rate.
+   *
+   * @return hit rate of both directions, or {@code 1.0} if there is no request.
+   */
+  public double hitRate() {
+    final var hitCount = this.hits.sum();
+    final var requestCount = hitCount + this.misses.sum();
+    return requestCount == 0L ? 1.0d : (double) hitCount / requestCount;
+  }
+
+  /**
+   * obtains the miss count.
+   *
+   * @return miss count of both directions.
+   */
+  public long missCount() {
+    return this.misses.sum();
+  }
+
+  /**
+   * counts the entries.
+   *
+   * @return entry count of both directions.
+   */
+  public int size() {
+    var size = 0;
+    for (var index = 0; index < this.formatted.length; index++) {
+      size += this.formatted[index].count() + this.parsed[index].count();
+    }
+    return size;
+  }
+
+  /**
+   * converts the given location into a {@link String}.
+   *
+   * @param location the location to convert.
+   *
+   * @return a {@link String} instance.
+   *
+   * @throws IllegalStateException if the given location has not a world.
+   * @see LocationUtil#toKey(Location)
+   */
+  @NotNull
+  public String toKey(@NotNull final Location location) {
+    final var snapshot = UnresolvedLocation.of(location);
+    final var segment = LocationKeyCache.segment(this.formatted, snapshot);
+    var key = segment.find(snapshot);
+    if (key == null) {
+      this.misses.increment();
+      key = LocationUtil.toKey(location);
+      segment.store(snapshot, key);
+    } else {
+      this.hits.increment();
+    }
+    return key;
+  }
+
+  /**
+   * finds the segment of the given key.
+   *
+   * @param segments the segments to find.
+   * @param key the key to find.
+   * @param <K> type of the keys.
+   * @param <V> type of the values.
+   *
+   * @return segment of the key.
+   */
+  @NotNull
+  private static <K, V> Segment<K, V> segment(@NotNull final Segment<K, V>[] segments, @NotNull final K key) {
+    final var hash = key.hashCode();
+    return segments[(hash ^ hash >>> 16) & segments.length - 1];
+  }
+
+  /**
+   * a class that represents least recently used part of the cache.
+   *
+   * @param <K> type of the keys.
+   * @param <V> type of the values.
+   */
+  private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+
+    /**
+     * the serial version uid.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * the maximum entry count.
+     */
+    private final int maximumSize;
+
+    /**
+     * ctor.
+     *
+     * @param maximumSize the maximum entry count.
+     */
+    private Segment(final int maximumSize) {
+      super(16, 0.75f, true);
+      this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public synchronized void clear() {
+      super.clear();
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+      return this.size() > this.maximumSize;
+    }
+
+    /**
+     * counts the entries.
+     *
+     * @return entry count.
+     */
+    private synchronized int count() {
+      return this.size();
+    }
+
+    /**
+     * finds the value of the given key and marks it as recently used.
+     *
+     * @param key the key to find.
+     *
+     * @return value of the key.
+     */
+    @Nullable
+    private synchronized V find(@NotNull final K key) {
+      return this.get(key);
+    }
+
+    /**
+     * stores the given entry.
+     *
+     * @param key the key to store.
+     * @param value the value to store.
+     */
+    private synchronized void store(@NotNull final K key, @NotNull final V value) {
+      this.put(key, value);
+    }
+  }
+}
@@ -0,0 +1,422 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import java.util.Locale;
+import java.util.Optional;
+import org.bukkit.Location;
+import org.bukkit.util.NumberConversions;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that contains hand written formatter and parser of the {@link LocationUtil#toKey(Location)} format.
+ * <p>
+ * the key looks like {@code WORLD/X_XX,Y_YY,Z_ZZ} or {@code WORLD/X_XX,Y_YY,Z_ZZ/YAW_YY/PITCH_PP} where the world
+ * name has {@code :} replaced with {@code /} and {@code .} replaced with {@code _}.
+ */
+final class LocationKeyCodec {
+
+  /**
+   * the largest value which is formatted without {@link String#format(Locale, String, Object...)}.
+   */
+  private static final double FAST_FORMAT_LIMIT = 1.0e9d;
+
+  /**
+   * the largest mantissa which is exactly representable as a double.
+   */
+  private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+  /**
+   * the largest mantissa which is exactly representable as a float.
+   */
+  private static final long MAX_EXACT_FLOAT = 1L << 24;
+
+  /**
+   * the powers of ten which are exactly representable as a double.
+   */
+  private static final double[] POWERS = {
+    1.0e0d, 1.0e1d, 1.0e2d, 1.0e3d, 1.0e4d, 1.0e5d, 1.0e6d, 1.0e7d, 1.0e8d, 1.0e9d, 1.0e10d,
+    1.0e11d, 1.0e12d, 1.0e13d, 1.0e14d, 1.0e15d, 1.0e16d, 1.0e17d, 1.0e18d, 1.0e19d, 1.0e20d,
+    1.0e21d, 1.0e22d};
+
+  /**
+   * the largest power of ten which is exactly representable as a float.
+   */
+  private static final int MAX_FLOAT_POWER = 10;
+
+  /**
+   * ctor.
+   */
+  private LocationKeyCodec() {
+  }
+
+  /**
+   * appends the key of the given location.
+   *
+   * @param builder the builder to append.
+   * @param location the location to append.
+   *
+   * @return the given builder.
+   */
+  @NotNull
+  static StringBuilder append(@NotNull final StringBuilder builder, @NotNull final Location location) {
+    final var name = LocationUtil.validWorld(location).getName();
+    for (var index = 0; index < name.length(); index++) {
+      builder.append(LocationKeyCodec.escape(name.charAt(index)));
+    }
+    builder.append('/');
+    LocationKeyCodec.appendNumber(builder, location.getX());
+    builder.append(',');
+    LocationKeyCodec.appendNumber(builder, location.getY());
+    builder.append(',');
+    LocationKeyCodec.appendNumber(builder, location.getZ());
+    if (location.getYaw() != 0.0f || location.getPitch() != 0.0f) {
+      builder.append('/');
+      LocationKeyCodec.appendNumber(builder, location.getYaw());
+      builder.append('/');
+      LocationKeyCodec.appendNumber(builder, location.getPitch());
+    }
+    return builder;
+  }
+
+  /**
+   * parses the given key.
+   *
+   * @param key the key to parse.
+   * @param factory the factory to create the result from the parsed components.
+   * @param <T> type of the result.
+   *
+   * @return a parsed result or an empty optional if the key does not match the format.
+   */
+  @NotNull
+  static <T> Optional<T> parse(@NotNull final CharSequence key, @NotNull final Factory<T> factory) {
+    final var length = key.length();
+    final var last = LocationKeyCodec.lastColon(key, length);
+    if (last <= 0) {
+      return Optional.empty();
+    }
+    if (LocationKeyCodec.isCoordinates(key, last + 1, length)) {
+      final var first = LocationKeyCodec.nextComma(key, last + 1);
+      final var second = LocationKeyCodec.nextComma(key, first + 1);
+      return Optional.of(factory.create(
+        LocationKeyCodec.unescape(key, 0, last),
+        LocationKeyCodec.parseDouble(key, last + 1, first),
+        LocationKeyCodec.parseDouble(key, first + 1, second),
+        LocationKeyCodec.parseDouble(key, second + 1, length),
+        0.0f,
+        0.0f));
+    }
+    final var middle = LocationKeyCodec.lastColon(key, last);
+    if (middle <= 0) {
+      return Optional.empty();
+    }
+    final var start = LocationKeyCodec.lastColon(key, middle);
+    if (start <= 0 || !LocationKeyCodec.isCoordinates(key, start + 1, middle) ||
+      !LocationKeyCodec.isNumber(key, middle + 1, last) || !LocationKeyCodec.isNumber(key, last + 1, length)) {
+      return Optional.empty();
+    }
+    final var first = LocationKeyCodec.nextComma(key, start + 1);
+    final var second = LocationKeyCodec.nextComma(key, first + 1);
+    return Optional.of(factory.create(
+      LocationKeyCodec.unescape(key, 0, start),
+      LocationKeyCodec.parseDouble(key, start + 1, first),
+      LocationKeyCodec.parseDouble(key, first + 1, second),
+      LocationKeyCodec.parseDouble(key, second + 1, middle),
+      LocationKeyCodec.parseFloat(key, middle + 1, last),
+      LocationKeyCodec.parseFloat(key, last + 1, length)));
+  }
+
+  /**
+   * appends the given number with two fraction digits, like {@code %.2f} does.
+   *
+   * @param builder the builder to append.
+   * @param value the value to append.
+   */
+  private static void appendNumber(@NotNull final StringBuilder builder, final double value) {
+    final var absolute = Math.abs(value);
+    if (!(absolute < LocationKeyCodec.FAST_FORMAT_LIMIT)) {
+      LocationKeyCodec.appendSlow(builder, value);
+      return;
+    }
+    final var scaled = absolute * 100.0d;
+    final var floor = Math.floor(scaled);
+    final var fraction = scaled - floor;
+    if (Math.abs(fraction - 0.5d) <= Math.max(1.0e-6d, Math.ulp(scaled) * 16.0d)) {
+      LocationKeyCodec.appendSlow(builder, value);
+      return;
+    }
+    final var units = (long) floor + (fraction > 0.5d ? 1L : 0L);
+    if (Double.doubleToRawLongBits(value) < 0L) {
+      builder.append('-');
+    }
+    builder.append(units / 100L).append('_');
+    final var cents = units % 100L;
+    if (cents < 10L) {
+      builder.append('0');
+    }
+    builder.append(cents);
+  }
+
+  /**
+   * appends the given number with {@link String#format(Locale, String, Object...)}.
+   *
+   * @param builder the builder to append.
+   * @param value the value to append.
+   */
+  private static void appendSlow(@NotNull final StringBuilder builder, final double value) {
+    final var formatted = String.format(Locale.ENGLISH, "%.2f", value);
+    for (var index = 0; index < formatted.length(); index++) {
+      builder.append(LocationKeyCodec.escape(formatted.charAt(index)));
+    }
+  }
+
+  /**
+   * escapes the given character for the key.
+   *
+   * @param character the character to escape.
+   *
+   * @return escaped character.
+   */
+  private static char escape(final char character) {
+    if (character == ':') {
+      return '/';
+    }
+    if (character == '.') {
+      return '_';
+    }
+    return character;
+  }
+
+  /**
+   * checks if the given range is three numbers separated by commas.
+   *
+   * @param key the key to check.
+   * @param start the start index, inclusive.
+   * @param end the end index, exclusive.
+   *
+   * @return {@code true} if the range is coordinates.
+   */
+  private static boolean isCoordinates(@NotNull final CharSequence key, final int start, final int end) {
+    final var first = LocationKeyCodec.nextComma(key, start);
+    if (first >= end) {
+      return false;
+    }
+    final var second = LocationKeyCodec.nextComma(key, first + 1);
+    if (second >= end) {
+      return false;
+    }
+    return LocationKeyCodec.isNumber(key, start, first) &&
+      LocationKeyCodec.isNumber(key, first + 1, second) &&
+      LocationKeyCodec.isNumber(key, second + 1, end);
+  }
+
+  /**
+   * checks if the given range is a non empty sequence of number characters.
+   *
+   * @param key the key to check.
+   * @param start the start index, inclusive.
+   * @param end the end index, exclusive.
+   *
+   * @return {@code true} if the range is a number.
+   */
+  private static boolean isNumber(@NotNull final CharSequence key, final int start, final int end) {
+    if (start >= end) {
+      return false;
+    }
+    for (var index = start; index < end; index++) {
+      final var character = key.charAt(index);
+      if (character != '-' && character != '.' && character != '_' && (character < '0' || character > '9')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * finds the last world separator before the given index.
+   *
+   * @param key the key to find.
+   * @param end the end index, exclusive.
+   *
+   * @return index of the separator or {@code -1}.
+   */
+  private static int lastColon(@NotNull final CharSequence key, final int end) {
+    for (var index = end - 1; index >= 0; index--) {
+      final var character = key.charAt(index);
+      if (character == '/' || character == ':') {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * finds the next comma from the given index.
+   *
+   * @param key the key to find.
+   * @param start the start index, inclusive.
+   *
+   * @return index of the comma or length of the key.
+   */
+  private static int nextComma(@NotNull final CharSequence key, final int start) {
+    var index = start;
+    while (index < key.length() && key.charAt(index) != ',') {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * parses the given range as a double like {@link NumberConversions#toDouble(Object)} does.
+   *
+   * @param key the key to parse.
+   * @param start the start index, inclusive.
+   * @param end the end index, exclusive.
+   *
+   * @return parsed number.
+   */
+  private static double parseDouble(@NotNull final CharSequence key, final int start, final int end) {
+    final var decimal = LocationKeyCodec.decimal(key, start, end);
+    if (decimal == -1L) {
+      return NumberConversions.toDouble(LocationKeyCodec.unescape(key, start, end));
+    }
+    final var value = (decimal >>> 5) / LocationKeyCodec.POWERS[(int) (decimal & 31L)];
+    return key.charAt(start) == '-' ? -value : value;
+  }
+
+  /**
+   * parses the given range as a float like {@link NumberConversions#toFloat(Object)} does.
+   *
+   * @param key the key to parse.
+   * @param start the start index, inclusive.
+   * @param end the end index, exclusive.
+   *
+   * @return parsed number.
+   */
+  private static float parseFloat(@NotNull final CharSequence key, final int start, final int end) {
+    final var decimal = LocationKeyCodec.decimal(key, start, end);
+    if (decimal == -1L || decimal >>> 5 >= LocationKeyCodec.MAX_EXACT_FLOAT ||
+      (decimal & 31L) > LocationKeyCodec.MAX_FLOAT_POWER) {
+      return NumberConversions.toFloat(LocationKeyCodec.unescape(key, start, end));
+    }
+    final var value = (decimal >>> 5) / (float) LocationKeyCodec.POWERS[(int) (decimal & 31L)];
+    return key.charAt(start) == '-' ? -value : value;
+  }
+
+  /**
+   * reads a simple decimal number which can be converted exactly.
+   *
+   * @param key the key to read.
+   * @param start the start index, inclusive.
+   * @param end the end index, exclusive.
+   *
+   * @return the digits shifted left by five bits or'ed with the fraction digit count, or {@code -1} if the number
+   *   is not simple.
+   */
+  private static long decimal(@NotNull final CharSequence key, final int start, final int end) {
+    var index = start;
+    if (index < end && key.charAt(index) == '-') {
+      index++;
+    }
+    var digits = 0L;
+    var count = 0;
+    var fraction = -1;
+    for (; index < end; index++) {
+      final var character = key.charAt(index);
+      if (character == '.' || character == '_') {
+        if (fraction != -1) {
+          return -1L;
+        }
+        fraction = 0;
+        continue;
+      }
+      if (character < '0' || character > '9') {
+        return -1L;
+      }
+      digits = digits * 10L + (character - '0');
+      count++;
+      if (fraction != -1) {
+        fraction++;
+      }
+      if (digits >= LocationKeyCodec.MAX_EXACT_DOUBLE || fraction >= LocationKeyCodec.POWERS.length) {
+        return -1L;
+      }
+    }
+    if (count == 0) {
+      return -1L;
+    }
+    return digits << 5 | Math.max(0, fraction);
+  }
+
+  /**
+   * creates a string of the given range, reversing the escapes of the key.
+   *
+   * @param key the key to create.
+   * @param start the start index, inclusive.
+   * @param end the end index, exclusive.
+   *
+   * @return an unescaped string.
+   */
+  @NotNull
+  private static String unescape(@NotNull final CharSequence key, final int start, final int end) {
+    final var characters = new char[end - start];
+    for (var index = start; index < end; index++) {
+      final var character = key.charAt(index);
+      if (character == '/') {
+        characters[index - start] = ':';
+      } else if (character == '_') {
+        characters[index - start] = '.';
+      } else {
+        characters[index - start] = character;
+      }
+    }
+    return new String(characters);
+  }
+
+  /**
+   * an interface to create results of {@link #parse(CharSequence, Factory)}.
+   *
+   * @param <T> type of the result.
+   */
+  @FunctionalInterface
+  interface Factory<T> {
+
+    /**
+     * creates a result from the parsed components.
+     *
+     * @param world the unescaped world name.
+     * @param x the x.
+     * @param y the y.
+     * @param z the z.
+     * @param yaw the yaw.
+     * @param pitch the pitch.
+     *
+     * @return a result instance.
+     */
+    @NotNull
+    T create(@NotNull String world, double x, double y, double z, float yaw, float pitch);
+  }
+}
@@ -25,13 +25,10 @@
 
 package io.github.portlek.bukkitlocation;
 
-import java.util.Locale;
 import java.util.Optional;
-import java.util.regex.Pattern;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
-import org.bukkit.util.NumberConversions;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -40,15 +37,28 @@ import org.jetbrains.annotations.NotNull;
 public final class LocationUtil {
 
   /**
-   * the location pattern which looks like WORLD/X_X/Y_Y/Z_Z/YAW_YAW/PITCH_PITCH.
+   * ctor.
    */
-  private static final Pattern PATTERN =
-    Pattern.compile("(?<world>[^/]+):(?<x>[\\-0-9.]+),(?<y>[\\-0-9.]+),(?<z>[\\-0-9.]+)(:(?<yaw>[\\-0-9.]+):(?<pitch>[\\-0-9.]+))?");
+  private LocationUtil() {
+  }
 
   /**
-   * ctor.
+   * appends the key of the given location into the given builder.
+   *
+   * @param builder the builder to append.
+   * @param location the location to append.
+   *
+   * @return the given builder.
+   *
+   * @see #toKey(Location)
    */
-  private LocationUtil() {
+  @NotNull
+  public static StringBuilder appendKey(@NotNull final StringBuilder builder, @NotNull final Location location) {
+    final var start = Metrics.start();
+    final var length = builder.length();
+    LocationKeyCodec.append(builder, location);
+    Metrics.stop(MetricsOperation.KEY_FORMAT, start, builder.length() - length);
+    return builder;
   }
 
   /**
@@ -84,23 +94,30 @@ public final class LocationUtil {
    */
   @NotNull
   public static Optional<Location> fromKey(@NotNull final String key) {
-    final var match = LocationUtil.PATTERN.matcher(key
-      .replace("_", ".")
-      .replace("/", ":"));
-    if (match.matches()) {
-      final var world = Bukkit.getWorld(match.group("world"));
-      final var x = NumberConversions.toDouble(match.group("x"));
-      final var y = NumberConversions.toDouble(match.group("y"));
-      final var z = NumberConversions.toDouble(match.group("z"));
-      final var yaw = Optional.ofNullable(match.group("yaw"))
-        .map(NumberConversions::toFloat)
-        .orElse(0.0f);
-      final var pitch = Optional.ofNullable(match.group("pitch"))
-        .map(NumberConversions::toFloat)
-        .orElse(0.0f);
-      return Optional.of(new Location(world, x, y, z, yaw, pitch));
-    }
-    return Optional.empty();
+    final var start = Metrics.start();
+    final var location = LocationKeyCodec.parse(key, (world, x, y, z, yaw, pitch) ->
+      new Location(Bukkit.getWorld(world), x, y, z, yaw, pitch));
+    Metrics.stop(MetricsOperation.KEY_PARSE, start, key.length());
+    return location;
+  }
+
+  /**
+   * converts the given key into a {@link Location} with the world from the given cache.
+   *
+   * @param key the key to convert.
+   * @param worlds the cache to find the world.
+   *
+   * @return a {@link Location} instance which has not a world if the world is not loaded.
+   *
+   * @see #unresolvedFromKey(String)
+   */
+  @NotNull
+  public static Optional<Location> fromKey(@NotNull final String key, @NotNull final WorldCache worlds) {
+    final var start = Metrics.start();
+    final var location = LocationKeyCodec.parse(key, (world, x, y, z, yaw, pitch) ->
+      new Location(worlds.getWorld(world), x, y, z, yaw, pitch));
+    Metrics.stop(MetricsOperation.KEY_PARSE, start, key.length());
+    return location;
   }
 
   /**
@@ -112,12 +129,25 @@ public final class LocationUtil {
    */
   @NotNull
   public static String toKey(@NotNull final Location location) {
-    var s = LocationUtil.validWorld(location).getName() + ':';
-    s += String.format(Locale.ENGLISH, "%.2f,%.2f,%.2f", location.getX(), location.getY(), location.getZ());
-    if (location.getYaw() != 0.0f || location.getPitch() != 0.0f) {
-      s += String.format(Locale.ENGLISH, ":%.2f:%.2f", location.getYaw(), location.getPitch());
-    }
-    return s.replace(":", "/").replace(".", "_");
+    final var start = Metrics.start();
+    final var key = LocationKeyCodec.append(new StringBuilder(32), location).toString();
+    Metrics.stop(MetricsOperation.KEY_FORMAT, start, key.length());
+    return key;
+  }
+
+  /**
+   * converts the given key into an {@link UnresolvedLocation}, without looking up the world.
+   *
+   * @param key the key to convert.
+   *
+   * @return an {@link UnresolvedLocation} instance.
+   */
+  @NotNull
+  public static Optional<UnresolvedLocation> unresolvedFromKey(@NotNull final String key) {
+    final var start = Metrics.start();
+    final var location = LocationKeyCodec.parse(key, UnresolvedLocation::new);
+    Metrics.stop(MetricsOperation.KEY_PARSE, start, key.length());
+    return location;
   }
 
   /**
@@ -0,0 +1,352 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents open addressing hash map of primitive {@code long} keys.
+ * <p>
+ * the map is designed for {@link BlockKey}s so it never boxes the keys. the map is not thread-safe.
+ *
+ * @param <V> type of the values.
+ */
+public final class LongHashMap<V> {
+
+  /**
+   * the keys, {@code 0} marks an empty slot.
+   */
+  @NotNull
+  private long[] keys;
+
+  /**
+   * the mask of the table.
+   */
+  private int mask;
+
+  /**
+   * the size without the zero key.
+   */
+  private int size;
+
+  /**
+   * the resize threshold.
+   */
+  private int threshold;
+
+  /**
+   * the values.
+   */
+  @NotNull
+  private Object[] values;
+
+  /**
+   * the zero key flag.
+   */
+  private boolean zero;
+
+  /**
+   * the value of the zero key.
+   */
+  @Nullable
+  private V zeroValue;
+
+  /**
+   * ctor.
+   */
+  public LongHashMap() {
+    this(0);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param expected the expected size.
+   */
+  public LongHashMap(final int expected) {
+    this.allocate(LongHashing.capacityFor(expected));
+  }
+
+  /**
+   * removes all entries.
+   */
+  public void clear() {
+    Arrays.fill(this.keys, 0L);
+    Arrays.fill(this.values, null);
+    this.size = 0;
+    this.zero = false;
+    this.zeroValue = null;
+  }
+
+  /**
+   * obtains the value of the given key or computes and puts a new one if it is absent.
+   *
+   * @param key the key to obtain.
+   * @param function the function to compute.
+   *
+   * @return the current value of the key.
+   */
+  @NotNull
+  public V computeIfAbsent(final long key, @NotNull final LongFunction<? extends V> function) {
+    final var current = this.get(key);
+    if (current != null) {
+      return current;
+    }
+    final V value = function.apply(key);
+    this.put(key, value);
+    return value;
+  }
+
+  /**
+   * checks if the map contains the given key.
+   *
+   * @param key the key to check.
+   *
+   * @return {@code true} if the map contains the key.
+   */
+  public boolean containsKey(final long key) {
+    if (key == 0L) {
+      return this.zero;
+    }
+    return this.find(key) != -1;
+  }
+
+  /**
+   * runs the given action for each entry.
+   *
+   * @param action the action to run.
+   */
+  public void forEach(@NotNull final EntryConsumer<? super V> action) {
+    if (this.zero) {
+      action.accept(0L, this.zeroValue);
+    }
+    for (var index = 0; index < this.keys.length; index++) {
+      if (this.keys[index] != 0L) {
+        action.accept(this.keys[index], this.valueAt(index));
+      }
+    }
+  }
+
+  /**
+   * obtains the value of the given key.
+   *
+   * @param key the key to obtain.
+   *
+   * @return the value of the key or {@code null} if the map does not contain the key.
+   */
+  @Nullable
+  public V get(final long key) {
+    if (key == 0L) {
+      return this.zeroValue;
+    }
+    final var slot = this.find(key);
+    return slot == -1 ? null : this.valueAt(slot);
+  }
+
+  /**
+   * checks if the map is empty.
+   *
+   * @return {@code true} if the map is empty.
+   */
+  public boolean isEmpty() {
+    return this.size() == 0;
+  }
+
+  /**
+   * puts the given value for the given key.
+   *
+   * @param key the key to put.
+   * @param value the value to put.
+   *
+   * @return the previous value of the key.
+   */
+  @Nullable
+  public V put(final long key, @NotNull final V value) {
+    if (key == 0L) {
+      final var previous = this.zeroValue;
+      this.zero = true;
+      this.zeroValue = value;
+      return previous;
+    }
+    var slot = LongHashing.slot(key, this.mask);
+    while (this.keys[slot] != 0L) {
+      if (this.keys[slot] == key) {
+        final var previous = this.valueAt(slot);
+        this.values[slot] = value;
+        return previous;
+      }
+      slot = slot + 1 & this.mask;
+    }
+    this.keys[slot] = key;
+    this.values[slot] = value;
+    if (++this.size > this.threshold) {
+      this.rehash(this.keys.length << 1);
+    }
+    return null;
+  }
+
+  /**
+   * removes the given key.
+   *
+   * @param key the key to remove.
+   *
+   * @return the removed value of the key.
+   */
+  @Nullable
+  public V remove(final long key) {
+    if (key == 0L) {
+      final var previous = this.zeroValue;
+      this.zero = false;
+      this.zeroValue = null;
+      return previous;
+    }
+    final var slot = this.find(key);
+    if (slot == -1) {
+      return null;
+    }
+    final var previous = this.valueAt(slot);
+    this.shift(slot);
+    this.size--;
+    return previous;
+  }
+
+  /**
+   * obtains the entry count.
+   *
+   * @return entry count of the map.
+   */
+  public int size() {
+    return this.zero ? this.size + 1 : this.size;
+  }
+
+  /**
+   * allocates a new table with the given capacity.
+   *
+   * @param capacity the capacity to allocate.
+   */
+  private void allocate(final int capacity) {
+    this.keys = new long[capacity];
+    this.values = new Object[capacity];
+    this.mask = capacity - 1;
+    this.threshold = LongHashing.threshold(capacity);
+  }
+
+  /**
+   * finds the slot of the given non zero key.
+   *
+   * @param key the key to find.
+   *
+   * @return slot of the key or {@code -1} if the map does not contain the key.
+   */
+  private int find(final long key) {
+    var slot = LongHashing.slot(key, this.mask);
+    while (this.keys[slot] != 0L) {
+      if (this.keys[slot] == key) {
+        return slot;
+      }
+      slot = slot + 1 & this.mask;
+    }
+    return -1;
+  }
+
+  /**
+   * moves the entries into a new table.
+   *
+   * @param capacity the capacity of the new table.
+   */
+  private void rehash(final int capacity) {
+    final var oldKeys = this.keys;
+    final var oldValues = this.values;
+    this.allocate(capacity);
+    for (var index = 0; index < oldKeys.length; index++) {
+      final var key = oldKeys[index];
+      if (key != 0L) {
+        var slot = LongHashing.slot(key, this.mask);
+        while (this.keys[slot] != 0L) {
+          slot = slot + 1 & this.mask;
+        }
+        this.keys[slot] = key;
+        this.values[slot] = oldValues[index];
+      }
+    }
+  }
+
+  /**
+   * closes the gap at the given slot by shifting the following entries backwards.
+   *
+   * @param gap the gap to close.
+   */
+  private void shift(final int gap) {
+    var current = gap;
+    var slot = gap;
+    while (true) {
+      slot = slot + 1 & this.mask;
+      final var key = this.keys[slot];
+      if (key == 0L) {
+        break;
+      }
+      if (LongHashing.movable(key, slot, current, this.mask)) {
+        this.keys[current] = key;
+        this.values[current] = this.values[slot];
+        current = slot;
+      }
+    }
+    this.keys[current] = 0L;
+    this.values[current] = null;
+  }
+
+  /**
+   * obtains the value at the given slot.
+   *
+   * @param slot the slot to obtain.
+   *
+   * @return value at the slot.
+   */
+  @SuppressWarnings("unchecked")
+  private V valueAt(final int slot) {
+    return (V) this.values[slot];
+  }
+
+  /**
+   * an interface to consume entries of a {@link LongHashMap}.
+   *
+   * @param <V> type of the values.
+   */
+  @FunctionalInterface
+  public interface EntryConsumer<V> {
+
+    /**
+     * consumes the given entry.
+     *
+     * @param key the key to consume.
+     * @param value the value to consume.
+     */
+    void accept(long key, V value);
+  }
+}
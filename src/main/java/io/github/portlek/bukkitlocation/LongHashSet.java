@@ -0,0 +1,262 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents open addressing hash set of primitive {@code long} values.
+ * <p>
+ * the set is designed for {@link BlockKey}s so it stores a single {@code long} per slot and never boxes the
+ * values. the set is not thread-safe.
+ */
+public final class LongHashSet {
+
+  /**
+   * the keys, {@code 0} marks an empty slot.
+   */
+  @NotNull
+  private long[] keys;
+
+  /**
+   * the mask of the table.
+   */
+  private int mask;
+
+  /**
+   * the size without the zero key.
+   */
+  private int size;
+
+  /**
+   * the resize threshold.
+   */
+  private int threshold;
+
+  /**
+   * the zero key flag.
+   */
+  private boolean zero;
+
+  /**
+   * ctor.
+   */
+  public LongHashSet() {
+    this(0);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param expected the expected size.
+   */
+  public LongHashSet(final int expected) {
+    this.allocate(LongHashing.capacityFor(expected));
+  }
+
+  /**
+   * adds the given key.
+   *
+   * @param key the key to add.
+   *
+   * @return {@code true} if the set did not contain the key.
+   */
+  public boolean add(final long key) {
+    if (key == 0L) {
+      final var added = !this.zero;
+      this.zero = true;
+      return added;
+    }
+    var slot = LongHashing.slot(key, this.mask);
+    while (this.keys[slot] != 0L) {
+      if (this.keys[slot] == key) {
+        return false;
+      }
+      slot = slot + 1 & this.mask;
+    }
+    this.keys[slot] = key;
+    if (++this.size > this.threshold) {
+      this.rehash(this.keys.length << 1);
+    }
+    return true;
+  }
+
+  /**
+   * removes all keys.
+   */
+  public void clear() {
+    Arrays.fill(this.keys, 0L);
+    this.size = 0;
+    this.zero = false;
+  }
+
+  /**
+   * checks if the set contains the given key.
+   *
+   * @param key the key to check.
+   *
+   * @return {@code true} if the set contains the key.
+   */
+  public boolean contains(final long key) {
+    if (key == 0L) {
+      return this.zero;
+    }
+    var slot = LongHashing.slot(key, this.mask);
+    while (this.keys[slot] != 0L) {
+      if (this.keys[slot] == key) {
+        return true;
+      }
+      slot = slot + 1 & this.mask;
+    }
+    return false;
+  }
+
+  /**
+   * runs the given action for each key.
+   *
+   * @param action the action to run.
+   */
+  public void forEach(@NotNull final LongConsumer action) {
+    if (this.zero) {
+      action.accept(0L);
+    }
+    for (final var key : this.keys) {
+      if (key != 0L) {
+        action.accept(key);
+      }
+    }
+  }
+
+  /**
+   * checks if the set is empty.
+   *
+   * @return {@code true} if the set is empty.
+   */
+  public boolean isEmpty() {
+    return this.size() == 0;
+  }
+
+  /**
+   * removes the given key.
+   *
+   * @param key the key to remove.
+   *
+   * @return {@code true} if the set contained the key.
+   */
+  public boolean remove(final long key) {
+    if (key == 0L) {
+      final var removed = this.zero;
+      this.zero = false;
+      return removed;
+    }
+    var slot = LongHashing.slot(key, this.mask);
+    while (this.keys[slot] != 0L) {
+      if (this.keys[slot] == key) {
+        this.shift(slot);
+        this.size--;
+        return true;
+      }
+      slot = slot + 1 & this.mask;
+    }
+    return false;
+  }
+
+  /**
+   * obtains the key count.
+   *
+   * @return key count of the set.
+   */
+  public int size() {
+    return this.zero ? this.size + 1 : this.size;
+  }
+
+  /**
+   * copies the keys into a new array.
+   *
+   * @return an array of the keys.
+   */
+  @NotNull
+  public long[] toArray() {
+    final var result = new long[this.size()];
+    final var index = new int[1];
+    this.forEach(key -> result[index[0]++] = key);
+    return result;
+  }
+
+  /**
+   * allocates a new table with the given capacity.
+   *
+   * @param capacity the capacity to allocate.
+   */
+  private void allocate(final int capacity) {
+    this.keys = new long[capacity];
+    this.mask = capacity - 1;
+    this.threshold = LongHashing.threshold(capacity);
+  }
+
+  /**
+   * moves the keys into a new table.
+   *
+   * @param capacity the capacity of the new table.
+   */
+  private void rehash(final int capacity) {
+    final var old = this.keys;
+    this.allocate(capacity);
+    for (final var key : old) {
+      if (key != 0L) {
+        var slot = LongHashing.slot(key, this.mask);
+        while (this.keys[slot] != 0L) {
+          slot = slot + 1 & this.mask;
+        }
+        this.keys[slot] = key;
+      }
+    }
+  }
+
+  /**
+   * closes the gap at the given slot by shifting the following keys backwards.
+   *
+   * @param gap the gap to close.
+   */
+  private void shift(final int gap) {
+    var current = gap;
+    var slot = gap;
+    while (true) {
+      slot = slot + 1 & this.mask;
+      final var key = this.keys[slot];
+      if (key == 0L) {
+        break;
+      }
+      if (LongHashing.movable(key, slot, current, this.mask)) {
+        this.keys[current] = key;
+        current = slot;
+      }
+    }
+    this.keys[current] = 0L;
+  }
+}
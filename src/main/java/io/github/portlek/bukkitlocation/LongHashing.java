@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+/**
+ * a class that contains shared methods of the open addressing {@code long} collections.
+ */
+final class LongHashing {
+
+  /**
+   * the default capacity.
+   */
+  static final int DEFAULT_CAPACITY = 16;
+
+  /**
+   * the load factor.
+   */
+  static final float LOAD_FACTOR = 0.75f;
+
+  /**
+   * the maximum capacity.
+   */
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  /**
+   * the golden ratio multiplier.
+   */
+  private static final long PHI = 0x9E3779B97F4A7C15L;
+
+  /**
+   * ctor.
+   */
+  private LongHashing() {
+  }
+
+  /**
+   * calculates a power of two table capacity for the given expected size.
+   *
+   * @param expected the expected size.
+   *
+   * @return a table capacity.
+   *
+   * @throws IllegalArgumentException if the expected size is negative or too big.
+   */
+  static int capacityFor(final int expected) {
+    if (expected < 0) {
+      throw new IllegalArgumentException("Expected size cannot be negative!");
+    }
+    final var needed = (long) Math.ceil(expected / (double) LongHashing.LOAD_FACTOR);
+    if (needed > LongHashing.MAXIMUM_CAPACITY) {
+      throw new IllegalArgumentException("Expected size is too big!");
+    }
+    return Math.max(LongHashing.DEFAULT_CAPACITY, Integer.highestOneBit((int) Math.max(1L, needed - 1L)) << 1);
+  }
+
+  /**
+   * calculates the ideal slot of the given key.
+   *
+   * @param key the key to calculate.
+   * @param mask the mask of the table.
+   *
+   * @return ideal slot of the key.
+   */
+  static int slot(final long key, final int mask) {
+    final var hash = key * LongHashing.PHI;
+    return (int) (hash ^ hash >>> 32) & mask;
+  }
+
+  /**
+   * checks if the element at the given slot can be moved into the given gap.
+   *
+   * @param key the key at the slot.
+   * @param slot the slot of the key.
+   * @param gap the gap to move.
+   * @param mask the mask of the table.
+   *
+   * @return {@code true} if the key can be moved into the gap.
+   */
+  static boolean movable(final long key, final int slot, final int gap, final int mask) {
+    return (slot - LongHashing.slot(key, mask) & mask) >= (slot - gap & mask);
+  }
+
+  /**
+   * calculates the resize threshold of the given capacity.
+   *
+   * @param capacity the capacity to calculate.
+   *
+   * @return resize threshold of the capacity.
+   */
+  static int threshold(final int capacity) {
+    return (int) (capacity * LongHashing.LOAD_FACTOR);
+  }
+}
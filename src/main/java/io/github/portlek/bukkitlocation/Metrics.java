@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that holds the installed {@link MetricsRecorder}.
+ * <p>
+ * the operations are attributed to the plugin of the current {@link #attribute(Plugin)} scope. outside of a scope,
+ * they are attributed to the plugin which loaded the library, which is the plugin itself when the library is shaded
+ * into it. the plugin is resolved once, so the attribution does not walk the stack.
+ */
+public final class Metrics {
+
+  /**
+   * the plugins of the current attribution scopes.
+   */
+  private static final ThreadLocal<Plugin> CALLER = new ThreadLocal<>();
+
+  /**
+   * the start value of the operations which are not timed.
+   */
+  private static final long DISABLED = Long.MIN_VALUE;
+
+  /**
+   * the plugin which loaded the library.
+   */
+  @Nullable
+  private static volatile Plugin owner;
+
+  /**
+   * whether the plugin which loaded the library is resolved.
+   */
+  private static volatile boolean ownerResolved;
+
+  /**
+   * the recorder.
+   */
+  @NotNull
+  private static volatile MetricsRecorder recorder = MetricsRecorder.noop();
+
+  /**
+   * ctor.
+   */
+  private Metrics() {
+  }
+
+  /**
+   * attributes the operations which run on the current thread to the given plugin until the scope is closed.
+   * <pre>{@code
+   * try (final var scope = Metrics.attribute(plugin)) {
+   *   cuboid.set(Material.AIR, false);
+   * }
+   * }</pre>
+   *
+   * @param plugin the plugin to attribute.
+   *
+   * @return a scope that restores the previous attribution when it is closed.
+   */
+  @NotNull
+  public static Scope attribute(@NotNull final Plugin plugin) {
+    final var previous = Metrics.CALLER.get();
+    Metrics.CALLER.set(plugin);
+    return new Scope(previous);
+  }
+
+  /**
+   * obtains the recorder which records the operations.
+   *
+   * @return installed recorder.
+   */
+  @NotNull
+  public static MetricsRecorder getRecorder() {
+    return Metrics.recorder;
+  }
+
+  /**
+   * checks if a recorder other than the no-op recorder is installed.
+   *
+   * @return {@code true} if the operations are recorded.
+   */
+  public static boolean isEnabled() {
+    return Metrics.recorder != NoopMetricsRecorder.INSTANCE;
+  }
+
+  /**
+   * sets the recorder which records the operations.
+   * <p>
+   * the default recorder is {@link MetricsRecorder#noop()}.
+   *
+   * @param recorder the recorder to set.
+   */
+  public static void setRecorder(@NotNull final MetricsRecorder recorder) {
+    Metrics.recorder = recorder;
+  }
+
+  /**
+   * starts timing an operation.
+   *
+   * @return the start time to give {@link #stop(MetricsOperation, long, long)}.
+   */
+  static long start() {
+    return Metrics.isEnabled() ? System.nanoTime() : Metrics.DISABLED;
+  }
+
+  /**
+   * stops timing an operation and records it.
+   *
+   * @param operation the operation to record.
+   * @param start the start time which is obtained from {@link #start()}.
+   * @param elements the element count which is processed by the operation.
+   */
+  static void stop(@NotNull final MetricsOperation operation, final long start, final long elements) {
+    if (start != Metrics.DISABLED) {
+      final var nanos = System.nanoTime() - start;
+      Metrics.recorder.record(operation, Metrics.caller(), nanos, elements);
+    }
+  }
+
+  /**
+   * obtains the plugin which runs the current operation.
+   *
+   * @return the plugin of the current scope, the plugin which loaded the library or {@code null}.
+   */
+  @Nullable
+  private static Plugin caller() {
+    final var plugin = Metrics.CALLER.get();
+    if (plugin != null) {
+      return plugin;
+    }
+    if (!Metrics.ownerResolved) {
+      try {
+        Metrics.owner = JavaPlugin.getProvidingPlugin(Metrics.class);
+      } catch (final IllegalArgumentException e) {
+        Metrics.owner = null;
+      } catch (final IllegalStateException e) {
+        return null;
+      }
+      Metrics.ownerResolved = true;
+    }
+    return Metrics.owner;
+  }
+
+  /**
+   * a class that represents attribution scope of a plugin.
+   */
+  public static final class Scope implements AutoCloseable {
+
+    /**
+     * the plugin of the outer scope.
+     */
+    @Nullable
+    private final Plugin previous;
+
+    /**
+     * ctor.
+     *
+     * @param previous the plugin of the outer scope.
+     */
+    private Scope(@Nullable final Plugin previous) {
+      this.previous = previous;
+    }
+
+    @Override
+    public void close() {
+      if (this.previous == null) {
+        Metrics.CALLER.remove();
+      } else {
+        Metrics.CALLER.set(this.previous);
+      }
+    }
+  }
+}
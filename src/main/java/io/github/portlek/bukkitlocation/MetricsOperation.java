@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+/**
+ * an enum that contains the operations which are recorded by {@link MetricsRecorder}s.
+ */
+public enum MetricsOperation {
+
+  /**
+   * the {@link Cuboid#blocks()}, the elements are the block count.
+   */
+  CUBOID_BLOCKS,
+  /**
+   * the {@link Cuboid#randomBlocks(int, boolean, RandomSource)}, the elements are the chosen block count.
+   */
+  CUBOID_RANDOM_BLOCKS,
+  /**
+   * the {@link Cuboid#randomLocations(int, boolean, RandomSource)}, the elements are the chosen location count.
+   */
+  CUBOID_RANDOM_LOCATIONS,
+  /**
+   * the {@link Cuboid#removeAll(boolean)}, the elements are the changed block count.
+   */
+  CUBOID_REMOVE_ALL,
+  /**
+   * the {@link Cuboid#set(org.bukkit.Material, boolean)}, the elements are the changed block count.
+   */
+  CUBOID_SET,
+  /**
+   * the {@link LocationUtil#toKey(org.bukkit.Location)} and {@link LocationUtil#appendKey(StringBuilder,
+   * org.bukkit.Location)}, the elements are the key length.
+   */
+  KEY_FORMAT,
+  /**
+   * the {@link LocationUtil#fromKey(String)} and its variants, the elements are the key length.
+   */
+  KEY_PARSE,
+  /**
+   * the {@link RandomUtil#chooseRandoms(java.util.List, int, boolean, RandomSource)}, the elements are the chosen
+   * object count.
+   */
+  RANDOM_CHOOSE
+}
@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * an interface to determine recorders of the operation metrics.
+ * <p>
+ * recorders are installed with {@link Metrics#setRecorder(MetricsRecorder)} and called by the thread which runs the
+ * operation, so implementations must be thread-safe and cheap.
+ */
+public interface MetricsRecorder {
+
+  /**
+   * obtains the recorder that records nothing.
+   * <p>
+   * this is the default recorder, the operations are not timed while it is installed.
+   *
+   * @return the no-op recorder.
+   */
+  @NotNull
+  static MetricsRecorder noop() {
+    return NoopMetricsRecorder.INSTANCE;
+  }
+
+  /**
+   * records a finished operation.
+   *
+   * @param operation the operation to record.
+   * @param plugin the plugin which runs the operation, or {@code null} if it is not known.
+   * @param nanos the elapsed nanoseconds.
+   * @param elements the element count which is processed by the operation.
+   *
+   * @see Metrics#attribute(Plugin)
+   */
+  void record(@NotNull MetricsOperation operation, @Nullable Plugin plugin, long nanos, long elements);
+}
@@ -0,0 +1,371 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import com.google.common.base.Preconditions;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents immutable, precomputed point cloud of a particle effect.
+ * <p>
+ * the points are kept in a single interleaved array around the origin, where y is up, so a frame rotates and
+ * translates them without creating vectors. the built-in shapes are cached by their parameters, so effects which
+ * share a shape share its points.
+ */
+public final class ParticleShape {
+
+  /**
+   * the golden angle which spreads the points of a sphere.
+   */
+  private static final double GOLDEN_ANGLE = Math.PI * (3.0d - Math.sqrt(5.0d));
+
+  /**
+   * the maximum count of cached shapes, shapes are created without caching after the limit.
+   */
+  private static final int MAX_CACHED = 1024;
+
+  /**
+   * the cached shapes.
+   */
+  private static final Map<List<Object>, ParticleShape> SHAPES = new ConcurrentHashMap<>();
+
+  /**
+   * the interleaved coordinates.
+   */
+  @NotNull
+  private final double[] points;
+
+  /**
+   * ctor.
+   *
+   * @param points the interleaved coordinates.
+   */
+  private ParticleShape(@NotNull final double[] points) {
+    this.points = points;
+  }
+
+  /**
+   * clears the cached shapes.
+   */
+  public static void clearCache() {
+    ParticleShape.SHAPES.clear();
+  }
+
+  /**
+   * obtains a horizontal circle.
+   *
+   * @param radius the radius.
+   * @param count the point count.
+   *
+   * @return a circle shape.
+   */
+  @NotNull
+  public static ParticleShape circle(final double radius, final int count) {
+    Preconditions.checkArgument(count > 0, "Point count must be positive!");
+    return ParticleShape.cached(List.of("circle", radius, count), () -> {
+      final var points = new double[count * 3];
+      for (var index = 0; index < count; index++) {
+        final var angle = 2.0d * Math.PI * index / count;
+        points[index * 3] = StrictMath.cos(angle) * radius;
+        points[index * 3 + 2] = StrictMath.sin(angle) * radius;
+      }
+      return points;
+    });
+  }
+
+  /**
+   * obtains the surface of a cone which stands on the origin.
+   *
+   * @param radius the radius of the base.
+   * @param height the height of the apex.
+   * @param rings the ring count from the base to the apex.
+   * @param countPerRing the point count of each ring.
+   *
+   * @return a cone shape.
+   */
+  @NotNull
+  public static ParticleShape cone(final double radius, final double height, final int rings,
+                                   final int countPerRing) {
+    Preconditions.checkArgument(rings > 0, "Ring count must be positive!");
+    Preconditions.checkArgument(countPerRing > 0, "Point count must be positive!");
+    return ParticleShape.cached(List.of("cone", radius, height, rings, countPerRing), () -> {
+      final var points = new double[rings * countPerRing * 3];
+      var offset = 0;
+      for (var ring = 0; ring < rings; ring++) {
+        final var progress = (double) ring / rings;
+        final var ringRadius = radius * (1.0d - progress);
+        for (var index = 0; index < countPerRing; index++) {
+          final var angle = 2.0d * Math.PI * index / countPerRing;
+          points[offset++] = StrictMath.cos(angle) * ringRadius;
+          points[offset++] = height * progress;
+          points[offset++] = StrictMath.sin(angle) * ringRadius;
+        }
+      }
+      return points;
+    });
+  }
+
+  /**
+   * obtains a helix which rises from the origin.
+   *
+   * @param radius the radius.
+   * @param height the height.
+   * @param turns the turn count.
+   * @param count the point count.
+   *
+   * @return a helix shape.
+   */
+  @NotNull
+  public static ParticleShape helix(final double radius, final double height, final double turns,
+                                    final int count) {
+    Preconditions.checkArgument(count > 0, "Point count must be positive!");
+    return ParticleShape.cached(List.of("helix", radius, height, turns, count), () -> {
+      final var points = new double[count * 3];
+      final var last = Math.max(1, count - 1);
+      for (var index = 0; index < count; index++) {
+        final var progress = (double) index / last;
+        final var angle = 2.0d * Math.PI * turns * progress;
+        points[index * 3] = StrictMath.cos(angle) * radius;
+        points[index * 3 + 1] = height * progress;
+        points[index * 3 + 2] = StrictMath.sin(angle) * radius;
+      }
+      return points;
+    });
+  }
+
+  /**
+   * creates a shape from the given interleaved coordinates which look like {@code x0, y0, z0, x1, y1, z1...}.
+   * <p>
+   * the coordinates are copied and the shape is not cached.
+   *
+   * @param points the coordinates to create.
+   *
+   * @return a new shape.
+   *
+   * @throws IllegalArgumentException if the length of the array is not a multiple of 3.
+   */
+  @NotNull
+  public static ParticleShape of(@NotNull final double[] points) {
+    Preconditions.checkArgument(points.length % 3 == 0, "Coordinate array length must be a multiple of 3!");
+    return new ParticleShape(points.clone());
+  }
+
+  /**
+   * obtains the outline of a horizontal regular polygon.
+   *
+   * @param radius the distance between the center and the corners.
+   * @param sides the side count.
+   * @param countPerSide the point count of each side, the first point is the corner.
+   *
+   * @return a polygon shape.
+   */
+  @NotNull
+  public static ParticleShape polygon(final double radius, final int sides, final int countPerSide) {
+    Preconditions.checkArgument(sides > 2, "Side count must be at least 3!");
+    Preconditions.checkArgument(countPerSide > 0, "Point count must be positive!");
+    return ParticleShape.cached(List.of("polygon", radius, sides, countPerSide), () -> {
+      final var points = new double[sides * countPerSide * 3];
+      var offset = 0;
+      for (var side = 0; side < sides; side++) {
+        final var startAngle = 2.0d * Math.PI * side / sides;
+        final var endAngle = 2.0d * Math.PI * (side + 1) / sides;
+        final var startX = StrictMath.cos(startAngle) * radius;
+        final var startZ = StrictMath.sin(startAngle) * radius;
+        final var endX = StrictMath.cos(endAngle) * radius;
+        final var endZ = StrictMath.sin(endAngle) * radius;
+        for (var index = 0; index < countPerSide; index++) {
+          final var progress = (double) index / countPerSide;
+          points[offset++] = startX + (endX - startX) * progress;
+          points[offset++] = 0.0d;
+          points[offset++] = startZ + (endZ - startZ) * progress;
+        }
+      }
+      return points;
+    });
+  }
+
+  /**
+   * obtains the surface of a sphere which is centered on the origin.
+   * <p>
+   * the points are spread evenly with a fibonacci lattice.
+   *
+   * @param radius the radius.
+   * @param count the point count.
+   *
+   * @return a sphere shape.
+   */
+  @NotNull
+  public static ParticleShape sphere(final double radius, final int count) {
+    Preconditions.checkArgument(count > 0, "Point count must be positive!");
+    return ParticleShape.cached(List.of("sphere", radius, count), () -> {
+      final var points = new double[count * 3];
+      for (var index = 0; index < count; index++) {
+        final var y = 1.0d - 2.0d * (index + 0.5d) / count;
+        final var ring = Math.sqrt(1.0d - y * y);
+        final var angle = ParticleShape.GOLDEN_ANGLE * index;
+        points[index * 3] = StrictMath.cos(angle) * ring * radius;
+        points[index * 3 + 1] = y * radius;
+        points[index * 3 + 2] = StrictMath.sin(angle) * ring * radius;
+      }
+      return points;
+    });
+  }
+
+  /**
+   * copies the coordinates.
+   *
+   * @return a new array of interleaved coordinates.
+   */
+  @NotNull
+  public double[] copyPoints() {
+    return this.points.clone();
+  }
+
+  /**
+   * rotates the points with the yaw and the pitch of the given origin and moves them to the origin.
+   *
+   * @param origin the origin to move.
+   * @param consumer the consumer to accept the points.
+   *
+   * @see Rotation#ofLocation(Location)
+   */
+  public void forEach(@NotNull final Location origin, @NotNull final PointConsumer consumer) {
+    this.forEach(Rotation.ofLocation(origin), origin.getX(), origin.getY(), origin.getZ(), consumer);
+  }
+
+  /**
+   * rotates the points with the given rotation and moves them to the given origin.
+   *
+   * @param rotation the rotation to rotate.
+   * @param originX the origin x.
+   * @param originY the origin y.
+   * @param originZ the origin z.
+   * @param consumer the consumer to accept the points.
+   */
+  public void forEach(@NotNull final Rotation rotation, final double originX, final double originY,
+                      final double originZ, @NotNull final PointConsumer consumer) {
+    for (var offset = 0; offset < this.points.length; offset += 3) {
+      final var x = this.points[offset];
+      final var y = this.points[offset + 1];
+      final var z = this.points[offset + 2];
+      consumer.accept(rotation.x(x, y, z) + originX, rotation.y(x, y, z) + originY, rotation.z(x, y, z) + originZ);
+    }
+  }
+
+  /**
+   * counts the points.
+   *
+   * @return point count.
+   */
+  public int size() {
+    return this.points.length / 3;
+  }
+
+  /**
+   * spawns the given particle at every point around the given origin.
+   * <p>
+   * particles which need data are spawned with {@link #forEach(Location, PointConsumer)}.
+   *
+   * @param origin the origin to spawn.
+   * @param particle the particle to spawn.
+   *
+   * @throws IllegalStateException if the given origin has not a world.
+   */
+  public void spawn(@NotNull final Location origin, @NotNull final Particle particle) {
+    final var world = LocationUtil.validWorld(origin);
+    this.forEach(origin, (x, y, z) -> world.spawnParticle(particle, x, y, z, 1, 0.0d, 0.0d, 0.0d, 0.0d));
+  }
+
+  /**
+   * rotates the points with the given rotation, moves them to the given origin and writes them into the given
+   * array.
+   *
+   * @param rotation the rotation to rotate.
+   * @param originX the origin x.
+   * @param originY the origin y.
+   * @param originZ the origin z.
+   * @param target the array to write which has at least {@code size() * 3} elements.
+   *
+   * @return the given array.
+   *
+   * @throws IndexOutOfBoundsException if the array is too short.
+   */
+  @NotNull
+  public double[] transform(@NotNull final Rotation rotation, final double originX, final double originY,
+                            final double originZ, @NotNull final double[] target) {
+    rotation.apply(this.points, 0, target, 0, this.size());
+    for (var offset = 0; offset < this.points.length; offset += 3) {
+      target[offset] += originX;
+      target[offset + 1] += originY;
+      target[offset + 2] += originZ;
+    }
+    return target;
+  }
+
+  /**
+   * obtains the shape from the cache or creates and caches it.
+   *
+   * @param key the key of the shape.
+   * @param points the function to create the coordinates.
+   *
+   * @return a shape.
+   */
+  @NotNull
+  private static ParticleShape cached(@NotNull final List<Object> key, @NotNull final Supplier<double[]> points) {
+    final var shape = ParticleShape.SHAPES.get(key);
+    if (shape != null) {
+      return shape;
+    }
+    final var created = new ParticleShape(points.get());
+    if (ParticleShape.SHAPES.size() >= ParticleShape.MAX_CACHED) {
+      return created;
+    }
+    final var previous = ParticleShape.SHAPES.putIfAbsent(key, created);
+    return previous == null ? created : previous;
+  }
+
+  /**
+   * an interface to consume points of a {@link ParticleShape}.
+   */
+  @FunctionalInterface
+  public interface PointConsumer {
+
+    /**
+     * consumes the given point.
+     *
+     * @param x the x to consume.
+     * @param y the y to consume.
+     * @param z the z to consume.
+     */
+    void accept(double x, double y, double z);
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an interface to determine sources of random numbers for {@link RandomUtil} and {@link Cuboid}.
+ */
+public interface RandomSource {
+
+  /**
+   * creates a source that wraps the given random.
+   *
+   * @param random the random to wrap.
+   *
+   * @return a new source instance.
+   */
+  @NotNull
+  static RandomSource of(@NotNull final Random random) {
+    return new JavaRandomSource(random);
+  }
+
+  /**
+   * creates a seeded source for reproducible results.
+   * <p>
+   * the source is not thread-safe, use {@link #split()} to give each thread or job its own instance.
+   *
+   * @param seed the seed to create.
+   *
+   * @return a new source instance.
+   */
+  @NotNull
+  static RandomSource seeded(final long seed) {
+    return new SplittableRandomSource(new SplittableRandom(seed));
+  }
+
+  /**
+   * obtains the source that uses the random of the current thread.
+   * <p>
+   * this is the default source, it is fast and never contended.
+   *
+   * @return the thread local source.
+   */
+  @NotNull
+  static RandomSource threadLocal() {
+    return ThreadLocalRandomSource.INSTANCE;
+  }
+
+  /**
+   * obtains a random number between {@code 0.0} and {@code 1.0}.
+   *
+   * @return a random number, exclusive of {@code 1.0}.
+   */
+  double nextDouble();
+
+  /**
+   * obtains a random number between {@code 0} and the given bound.
+   *
+   * @param bound the bound, exclusive.
+   *
+   * @return a random number.
+   */
+  int nextInt(int bound);
+
+  /**
+   * obtains a random number between {@code 0} and the given bound.
+   *
+   * @param bound the bound, exclusive.
+   *
+   * @return a random number.
+   */
+  long nextLong(long bound);
+
+  /**
+   * creates an independent source for another thread or job.
+   *
+   * @return a new source or {@code this} if the source can be shared.
+   */
+  @NotNull
+  RandomSource split();
+}
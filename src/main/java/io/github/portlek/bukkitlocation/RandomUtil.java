@@ -28,8 +28,11 @@ package io.github.portlek.bukkitlocation;
 import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.RandomAccess;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -39,7 +42,11 @@ public final class RandomUtil {
 
   /**
    * a random cache.
+   *
+   * @deprecated the utility methods use {@link RandomSource#threadLocal()} by default, pass a {@link RandomSource}
+   *   to use another random.
    */
+  @Deprecated
   public static final Random RANDOM = new SecureRandom();
 
   /**
@@ -50,6 +57,10 @@ public final class RandomUtil {
 
   /**
    * chooses objects from the given list with the given limit.
+   * <p>
+   * without duplicates, the list is walked in a lazily generated random order until the limit of distinct objects
+   * is reached, so the cost is bounded by the list size. if the list has fewer distinct objects than the limit,
+   * all of them are returned in a random order.
    *
    * @param list the list to choose.
    * @param limit the limit to choose.
@@ -60,19 +71,164 @@ public final class RandomUtil {
    */
   @NotNull
   public static <T> List<T> chooseRandoms(@NotNull final List<T> list, final int limit, final boolean duplicate) {
-    if (list.size() <= limit && !duplicate) {
-      return Collections.emptyList();
+    return RandomUtil.chooseRandoms(list, limit, duplicate, RandomSource.threadLocal());
+  }
+
+  /**
+   * chooses objects from the given list with the given limit using the given random source.
+   *
+   * @param list the list to choose.
+   * @param limit the limit to choose.
+   * @param duplicate the duplicate to check if the object is already in the result list.
+   * @param random the random to choose.
+   * @param <T> the object type.
+   *
+   * @return a random chosen list.
+   *
+   * @see #chooseRandoms(List, int, boolean)
+   */
+  @NotNull
+  public static <T> List<T> chooseRandoms(@NotNull final List<T> list, final int limit, final boolean duplicate,
+                                          @NotNull final RandomSource random) {
+    final var start = Metrics.start();
+    final var things = RandomUtil.choose(list, limit, duplicate, random);
+    Metrics.stop(MetricsOperation.RANDOM_CHOOSE, start, things.size());
+    return things;
+  }
+
+  /**
+   * chooses objects from the given iterable with the given limit in a single pass.
+   * <p>
+   * uses reservoir sampling, so the iterable is consumed once and only the limit of objects is kept in memory.
+   * objects are chosen by position, equal objects at different positions can be chosen together.
+   *
+   * @param iterable the iterable to choose.
+   * @param limit the limit to choose.
+   * @param <T> the object type.
+   *
+   * @return a random chosen list.
+   */
+  @NotNull
+  public static <T> List<T> reservoir(@NotNull final Iterable<? extends T> iterable, final int limit) {
+    return RandomUtil.reservoir(iterable, limit, RandomSource.threadLocal());
+  }
+
+  /**
+   * chooses objects from the given iterable with the given limit in a single pass using the given random source.
+   *
+   * @param iterable the iterable to choose.
+   * @param limit the limit to choose.
+   * @param random the random to choose.
+   * @param <T> the object type.
+   *
+   * @return a random chosen list.
+   *
+   * @see #reservoir(Iterable, int)
+   */
+  @NotNull
+  public static <T> List<T> reservoir(@NotNull final Iterable<? extends T> iterable, final int limit,
+                                      @NotNull final RandomSource random) {
+    final var things = new ArrayList<T>(Math.max(0, limit));
+    if (limit <= 0) {
+      return things;
+    }
+    final var iterator = iterable.iterator();
+    while (things.size() < limit && iterator.hasNext()) {
+      things.add(iterator.next());
     }
-    final var things = new ArrayList<T>();
-    var limitClone = limit;
-    while (limitClone > 0) {
-      final var thing = list.get(RandomUtil.RANDOM.nextInt(list.size()));
-      if (things.contains(thing) && !duplicate) {
-        continue;
+    var weight = Math.exp(Math.log(1.0d - random.nextDouble()) / limit);
+    while (iterator.hasNext()) {
+      var skip = (long) (Math.log(1.0d - random.nextDouble()) / Math.log(1.0d - weight));
+      while (skip > 0L && iterator.hasNext()) {
+        iterator.next();
+        skip--;
+      }
+      if (!iterator.hasNext()) {
+        break;
       }
-      things.add(thing);
-      --limitClone;
+      things.set(random.nextInt(limit), iterator.next());
+      weight *= Math.exp(Math.log(1.0d - random.nextDouble()) / limit);
     }
+    RandomUtil.shuffle(random, things);
     return things;
   }
+
+  /**
+   * shuffles the given array in place.
+   *
+   * @param random the random to shuffle.
+   * @param array the array to shuffle.
+   */
+  static void shuffle(@NotNull final RandomSource random, @NotNull final long[] array) {
+    for (var index = array.length - 1; index > 0; index--) {
+      final var other = random.nextInt(index + 1);
+      final var temp = array[index];
+      array[index] = array[other];
+      array[other] = temp;
+    }
+  }
+
+  /**
+   * chooses objects from the given list with the given limit using the given random source.
+   *
+   * @param list the list to choose.
+   * @param limit the limit to choose.
+   * @param duplicate the duplicate to check if the object is already in the result list.
+   * @param random the random to choose.
+   * @param <T> the object type.
+   *
+   * @return a random chosen list.
+   */
+  @NotNull
+  private static <T> List<T> choose(@NotNull final List<T> list, final int limit, final boolean duplicate,
+                                    @NotNull final RandomSource random) {
+    if (limit <= 0 || list.isEmpty()) {
+      return new ArrayList<>();
+    }
+    final var source = list instanceof RandomAccess ? list : new ArrayList<>(list);
+    final var size = source.size();
+    if (duplicate) {
+      final var things = new ArrayList<T>(limit);
+      for (var index = 0; index < limit; index++) {
+        things.add(source.get(random.nextInt(size)));
+      }
+      return things;
+    }
+    final var things = new ArrayList<T>(Math.min(limit, size));
+    final var seen = new HashSet<T>();
+    if (limit >= size >> 2) {
+      final var copy = new ArrayList<>(source);
+      for (var index = 0; index < size && things.size() < limit; index++) {
+        Collections.swap(copy, index, index + random.nextInt(size - index));
+        final var thing = copy.get(index);
+        if (seen.add(thing)) {
+          things.add(thing);
+        }
+      }
+      return things;
+    }
+    final var swaps = new HashMap<Integer, Integer>();
+    for (var index = 0; index < size && things.size() < limit; index++) {
+      final var other = index + random.nextInt(size - index);
+      final int picked = swaps.getOrDefault(other, other);
+      swaps.put(other, swaps.getOrDefault(index, index));
+      final var thing = source.get(picked);
+      if (seen.add(thing)) {
+        things.add(thing);
+      }
+    }
+    return things;
+  }
+
+  /**
+   * shuffles the given list in place.
+   *
+   * @param random the random to shuffle.
+   * @param list the list to shuffle.
+   */
+  private static void shuffle(@NotNull final RandomSource random, @NotNull final List<?> list) {
+    for (var index = list.size() - 1; index > 0; index--) {
+      Collections.swap(list, index, random.nextInt(index + 1));
+    }
+  }
 }
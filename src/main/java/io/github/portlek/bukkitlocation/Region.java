@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import java.util.stream.Stream;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.util.BoundingBox;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an interface to determine a set of blocks in a single world.
+ */
+public interface Region {
+
+  /**
+   * obtains a lazy stream of the blocks inside the region, every block is streamed once.
+   *
+   * @return a block stream within the region.
+   */
+  @NotNull
+  Stream<Block> blockStream();
+
+  /**
+   * checks if the given block coordinates are in the region.
+   *
+   * @param x the block x to check.
+   * @param y the block y to check.
+   * @param z the block z to check.
+   *
+   * @return {@code true} if the block is in the region.
+   */
+  boolean containsBlock(int x, int y, int z);
+
+  /**
+   * obtains a copy of the bounds that enclose the region.
+   *
+   * @return bounding box of the region.
+   */
+  @NotNull
+  BoundingBox getBoundingBox();
+
+  /**
+   * obtains the world of the region.
+   *
+   * @return world of the region.
+   */
+  @NotNull
+  World getWorld();
+
+  /**
+   * creates a region that contains the blocks which are in both regions.
+   *
+   * @param other the other to intersect.
+   *
+   * @return a new region instance.
+   */
+  @NotNull
+  default Region intersect(@NotNull final Region other) {
+    return CompositeRegion.intersection(this, other);
+  }
+
+  /**
+   * checks if the given location is in the region.
+   * <p>
+   * a location in another world, or without a world, is never in the region.
+   *
+   * @param location the location to check.
+   *
+   * @return {@code true} if the given location is in the world and the bounds of the region.
+   */
+  boolean isIn(@NotNull Location location);
+
+  /**
+   * checks if the given coordinates are in the region, the world is not checked.
+   *
+   * @param x the x to check.
+   * @param y the y to check.
+   * @param z the z to check.
+   *
+   * @return {@code true} if the given coordinates are in the region.
+   */
+  boolean isIn(double x, double y, double z);
+
+  /**
+   * creates a region that contains the blocks of this region which are not in the other region.
+   *
+   * @param other the other to subtract.
+   *
+   * @return a new region instance.
+   */
+  @NotNull
+  default Region subtract(@NotNull final Region other) {
+    return CompositeRegion.subtraction(this, other);
+  }
+
+  /**
+   * creates a region that contains the blocks of either region.
+   *
+   * @param other the other to unite.
+   *
+   * @return a new region instance.
+   */
+  @NotNull
+  default Region union(@NotNull final Region other) {
+    return CompositeRegion.union(this, other);
+  }
+}
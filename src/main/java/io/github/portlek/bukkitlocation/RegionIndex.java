@@ -0,0 +1,730 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents spatial index of {@link Cuboid}s in a single world.
+ * <p>
+ * the index is a balanced bounding volume hierarchy, so point, box and nearest queries visit only the branches
+ * whose bounds can match. the index is not thread-safe.
+ */
+public final class RegionIndex {
+
+  /**
+   * the leaves of the cuboids.
+   */
+  @NotNull
+  private final Map<Cuboid, Node> leaves = new HashMap<>();
+
+  /**
+   * the world.
+   */
+  @NotNull
+  private final World world;
+
+  /**
+   * the world unique id.
+   */
+  @NotNull
+  private final UUID worldId;
+
+  /**
+   * the count of the loaded leaves whose cuboids are not created yet.
+   */
+  private int pending;
+
+  /**
+   * the root node.
+   */
+  @Nullable
+  private Node root;
+
+  /**
+   * ctor.
+   *
+   * @param world the world of the cuboids.
+   */
+  public RegionIndex(@NotNull final World world) {
+    this.world = world;
+    this.worldId = world.getUID();
+  }
+
+  /**
+   * loads the cuboids of the given world from the given store.
+   * <p>
+   * the index is built from the block bounds of the records, a {@link Cuboid} is created only when a query hits its
+   * record for the first time and the same instance is returned afterwards. so {@link #contains(Cuboid)} and
+   * {@link #remove(Cuboid)} know a loaded record only after a query has returned its cuboid.
+   *
+   * @param store the store to load.
+   * @param world the world to load.
+   *
+   * @return a new index instance.
+   */
+  @NotNull
+  public static RegionIndex load(@NotNull final RegionStore store, @NotNull final World world) {
+    final var index = new RegionIndex(world);
+    store.forEachBounds(world, (record, minX, minY, minZ, maxX, maxY, maxZ) -> {
+      index.insertLeaf(new Node(minX, minY, minZ, maxX, maxY, maxZ));
+      index.pending++;
+    });
+    return index;
+  }
+
+  /**
+   * checks if the index contains the given cuboid.
+   *
+   * @param cuboid the cuboid to check.
+   *
+   * @return {@code true} if the index contains the cuboid.
+   */
+  public boolean contains(@NotNull final Cuboid cuboid) {
+    return this.leaves.containsKey(cuboid);
+  }
+
+  /**
+   * runs the given action for each cuboid that contains the given location.
+   *
+   * @param location the location to query.
+   * @param action the action to run.
+   */
+  public void forEach(@NotNull final Location location, @NotNull final Consumer<Cuboid> action) {
+    if (this.root == null || !this.isSameWorld(location)) {
+      return;
+    }
+    final var x = location.getX();
+    final var y = location.getY();
+    final var z = location.getZ();
+    final var stack = new ArrayDeque<Node>();
+    stack.push(this.root);
+    while (!stack.isEmpty()) {
+      final var node = stack.pop();
+      if (!node.contains(x, y, z)) {
+        continue;
+      }
+      if (node.isLeaf()) {
+        action.accept(this.cuboid(node));
+      } else {
+        stack.push(node.child1);
+        stack.push(node.child2);
+      }
+    }
+  }
+
+  /**
+   * inserts the given cuboid.
+   *
+   * @param cuboid the cuboid to insert.
+   *
+   * @return {@code true} if the index did not contain the cuboid.
+   *
+   * @throws IllegalArgumentException if the cuboid is not in the world of the index.
+   */
+  public boolean insert(@NotNull final Cuboid cuboid) {
+    Preconditions.checkArgument(cuboid.getWorld().getUID().equals(this.worldId),
+      "%s is not in the world of the index!", cuboid);
+    if (this.leaves.containsKey(cuboid)) {
+      return false;
+    }
+    final var leaf = new Node(cuboid);
+    this.leaves.put(cuboid, leaf);
+    this.insertLeaf(leaf);
+    return true;
+  }
+
+  /**
+   * finds the nearest cuboid to the given location.
+   *
+   * @param location the location to query.
+   *
+   * @return the nearest cuboid or an empty optional if the index is empty.
+   */
+  @NotNull
+  public Optional<Cuboid> nearest(@NotNull final Location location) {
+    if (this.root == null || !this.isSameWorld(location)) {
+      return Optional.empty();
+    }
+    final var x = location.getX();
+    final var y = location.getY();
+    final var z = location.getZ();
+    final var queue = new PriorityQueue<Candidate>(Comparator.comparingDouble(candidate -> candidate.distance));
+    queue.add(new Candidate(this.root, this.root.distanceSquared(x, y, z)));
+    while (!queue.isEmpty()) {
+      final var candidate = queue.poll();
+      final var node = candidate.node;
+      if (node.isLeaf()) {
+        return Optional.of(this.cuboid(node));
+      }
+      queue.add(new Candidate(node.child1, node.child1.distanceSquared(x, y, z)));
+      queue.add(new Candidate(node.child2, node.child2.distanceSquared(x, y, z)));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * obtains the cuboids which contain the given location.
+   *
+   * @param location the location to query.
+   *
+   * @return cuboids that contain the location.
+   */
+  @NotNull
+  public List<Cuboid> query(@NotNull final Location location) {
+    final var result = new ArrayList<Cuboid>();
+    this.forEach(location, result::add);
+    return result;
+  }
+
+  /**
+   * obtains the cuboids which intersect the given cuboid.
+   *
+   * @param box the box to query.
+   *
+   * @return cuboids that intersect the box.
+   */
+  @NotNull
+  public List<Cuboid> query(@NotNull final Cuboid box) {
+    final var result = new ArrayList<Cuboid>();
+    if (this.root == null || !box.getWorld().getUID().equals(this.worldId)) {
+      return result;
+    }
+    final var bounds = new Node(box);
+    final var stack = new ArrayDeque<Node>();
+    stack.push(this.root);
+    while (!stack.isEmpty()) {
+      final var node = stack.pop();
+      if (!node.intersects(bounds)) {
+        continue;
+      }
+      if (node.isLeaf()) {
+        result.add(this.cuboid(node));
+      } else {
+        stack.push(node.child1);
+        stack.push(node.child2);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * removes the given cuboid.
+   *
+   * @param cuboid the cuboid to remove.
+   *
+   * @return {@code true} if the index contained the cuboid.
+   */
+  public boolean remove(@NotNull final Cuboid cuboid) {
+    final var leaf = this.leaves.remove(cuboid);
+    if (leaf == null) {
+      return false;
+    }
+    this.removeLeaf(leaf);
+    return true;
+  }
+
+  /**
+   * obtains the cuboid count.
+   *
+   * @return cuboid count of the index.
+   */
+  public int size() {
+    return this.leaves.size() + this.pending;
+  }
+
+  /**
+   * rotates the given node if its children are not balanced.
+   *
+   * @param node the node to balance.
+   *
+   * @return the node that took the place of the given node.
+   */
+  @NotNull
+  private Node balance(@NotNull final Node node) {
+    if (node.isLeaf() || node.height < 2) {
+      return node;
+    }
+    final var left = node.child1;
+    final var right = node.child2;
+    final var balance = right.height - left.height;
+    if (balance > 1) {
+      this.rotate(node, right, false);
+      return right;
+    }
+    if (balance < -1) {
+      this.rotate(node, left, true);
+      return left;
+    }
+    return node;
+  }
+
+  /**
+   * finds the best sibling for the given leaf with the surface area heuristic.
+   *
+   * @param leaf the leaf to find.
+   *
+   * @return the best sibling node.
+   */
+  @NotNull
+  private Node bestSibling(@NotNull final Node leaf) {
+    var index = this.root;
+    assert index != null;
+    while (!index.isLeaf()) {
+      final var area = index.area();
+      final var combined = Node.unionArea(index, leaf);
+      final var cost = 2.0d * combined;
+      final var inheritance = 2.0d * (combined - area);
+      final var cost1 = RegionIndex.descendCost(index.child1, leaf, inheritance);
+      final var cost2 = RegionIndex.descendCost(index.child2, leaf, inheritance);
+      if (cost < cost1 && cost < cost2) {
+        break;
+      }
+      index = cost1 < cost2 ? index.child1 : index.child2;
+    }
+    return index;
+  }
+
+  /**
+   * obtains the cuboid of the given leaf, creates it if the leaf is loaded from a {@link RegionStore}.
+   *
+   * @param leaf the leaf to obtain.
+   *
+   * @return cuboid of the leaf.
+   */
+  @NotNull
+  private Cuboid cuboid(@NotNull final Node leaf) {
+    if (leaf.cuboid != null) {
+      return leaf.cuboid;
+    }
+    final var cuboid = new Cuboid(
+      new Location(this.world, leaf.minX, leaf.minY, leaf.minZ),
+      new Location(this.world, leaf.maxX, leaf.maxY, leaf.maxZ));
+    leaf.cuboid = cuboid;
+    this.leaves.put(cuboid, leaf);
+    this.pending--;
+    return cuboid;
+  }
+
+  /**
+   * calculates the cost of descending into the given child for the given leaf.
+   *
+   * @param child the child to calculate.
+   * @param leaf the leaf to insert.
+   * @param inheritance the inherited cost.
+   *
+   * @return cost of the descending.
+   */
+  private static double descendCost(@NotNull final Node child, @NotNull final Node leaf, final double inheritance) {
+    final var combined = Node.unionArea(child, leaf);
+    if (child.isLeaf()) {
+      return combined + inheritance;
+    }
+    return combined - child.area() + inheritance;
+  }
+
+  /**
+   * inserts the given leaf into the tree.
+   *
+   * @param leaf the leaf to insert.
+   */
+  private void insertLeaf(@NotNull final Node leaf) {
+    if (this.root == null) {
+      this.root = leaf;
+      return;
+    }
+    final var sibling = this.bestSibling(leaf);
+    final var oldParent = sibling.parent;
+    final var newParent = new Node(sibling, leaf);
+    newParent.parent = oldParent;
+    if (oldParent == null) {
+      this.root = newParent;
+    } else {
+      oldParent.replace(sibling, newParent);
+    }
+    this.refit(newParent);
+  }
+
+  /**
+   * checks if the given location is in the world of the index.
+   *
+   * @param location the location to check.
+   *
+   * @return {@code true} if the location is in the world of the index.
+   */
+  private boolean isSameWorld(@NotNull final Location location) {
+    final var world = location.getWorld();
+    return world != null && world.getUID().equals(this.worldId);
+  }
+
+  /**
+   * rebalances and refits the nodes from the given node up to the root.
+   *
+   * @param start the node to start.
+   */
+  private void refit(@Nullable final Node start) {
+    var index = start;
+    while (index != null) {
+      index = this.balance(index);
+      index.fit();
+      index = index.parent;
+    }
+  }
+
+  /**
+   * removes the given leaf from the tree.
+   *
+   * @param leaf the leaf to remove.
+   */
+  private void removeLeaf(@NotNull final Node leaf) {
+    if (leaf == this.root) {
+      this.root = null;
+      return;
+    }
+    final var parent = leaf.parent;
+    assert parent != null;
+    final var grandParent = parent.parent;
+    final var sibling = parent.child1 == leaf ? parent.child2 : parent.child1;
+    sibling.parent = grandParent;
+    if (grandParent == null) {
+      this.root = sibling;
+    } else {
+      grandParent.replace(parent, sibling);
+      this.refit(grandParent);
+    }
+  }
+
+  /**
+   * moves the given child into the place of the given node.
+   *
+   * @param node the node to rotate.
+   * @param child the child to move up.
+   * @param leftChild {@code true} if the child is the first child of the node.
+   */
+  private void rotate(@NotNull final Node node, @NotNull final Node child, final boolean leftChild) {
+    final var first = child.child1;
+    final var second = child.child2;
+    child.child1 = node;
+    child.parent = node.parent;
+    node.parent = child;
+    if (child.parent == null) {
+      this.root = child;
+    } else {
+      child.parent.replace(node, child);
+    }
+    final Node up;
+    final Node down;
+    if (first.height > second.height) {
+      up = first;
+      down = second;
+    } else {
+      up = second;
+      down = first;
+    }
+    child.child2 = up;
+    if (leftChild) {
+      node.child1 = down;
+    } else {
+      node.child2 = down;
+    }
+    down.parent = node;
+    node.fit();
+    child.fit();
+  }
+
+  /**
+   * a class that represents a node and its distance in nearest queries.
+   */
+  private static final class Candidate {
+
+    /**
+     * the squared distance.
+     */
+    private final double distance;
+
+    /**
+     * the node.
+     */
+    @NotNull
+    private final Node node;
+
+    /**
+     * ctor.
+     *
+     * @param node the node.
+     * @param distance the squared distance.
+     */
+    private Candidate(@NotNull final Node node, final double distance) {
+      this.node = node;
+      this.distance = distance;
+    }
+  }
+
+  /**
+   * a class that represents a node of the tree.
+   */
+  private static final class Node {
+
+    /**
+     * the cuboid of the leaf, {@code null} for the branches and the loaded leaves until a query hits them.
+     */
+    @Nullable
+    private Cuboid cuboid;
+
+    /**
+     * the first child.
+     */
+    private Node child1;
+
+    /**
+     * the second child.
+     */
+    private Node child2;
+
+    /**
+     * the height.
+     */
+    private int height;
+
+    /**
+     * the maximum x.
+     */
+    private double maxX;
+
+    /**
+     * the maximum y.
+     */
+    private double maxY;
+
+    /**
+     * the maximum z.
+     */
+    private double maxZ;
+
+    /**
+     * the minimum x.
+     */
+    private double minX;
+
+    /**
+     * the minimum y.
+     */
+    private double minY;
+
+    /**
+     * the minimum z.
+     */
+    private double minZ;
+
+    /**
+     * the parent.
+     */
+    @Nullable
+    private Node parent;
+
+    /**
+     * ctor.
+     *
+     * @param cuboid the cuboid of the leaf.
+     */
+    private Node(@NotNull final Cuboid cuboid) {
+      this.cuboid = cuboid;
+      this.minX = cuboid.getMinX();
+      this.minY = cuboid.getMinY();
+      this.minZ = cuboid.getMinZ();
+      this.maxX = cuboid.getMaxX();
+      this.maxY = cuboid.getMaxY();
+      this.maxZ = cuboid.getMaxZ();
+    }
+
+    /**
+     * ctor.
+     *
+     * @param minX the minimum block x of the leaf.
+     * @param minY the minimum block y of the leaf.
+     * @param minZ the minimum block z of the leaf.
+     * @param maxX the maximum block x of the leaf.
+     * @param maxY the maximum block y of the leaf.
+     * @param maxZ the maximum block z of the leaf.
+     */
+    private Node(final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ) {
+      this.cuboid = null;
+      this.minX = minX;
+      this.minY = minY;
+      this.minZ = minZ;
+      this.maxX = maxX;
+      this.maxY = maxY;
+      this.maxZ = maxZ;
+    }
+
+    /**
+     * ctor.
+     *
+     * @param child1 the first child.
+     * @param child2 the second child.
+     */
+    private Node(@NotNull final Node child1, @NotNull final Node child2) {
+      this.cuboid = null;
+      this.child1 = child1;
+      this.child2 = child2;
+      child1.parent = this;
+      child2.parent = this;
+      this.fit();
+    }
+
+    /**
+     * calculates the surface area of the union of the given nodes.
+     *
+     * @param first the first node.
+     * @param second the second node.
+     *
+     * @return surface area of the union.
+     */
+    private static double unionArea(@NotNull final Node first, @NotNull final Node second) {
+      return Node.area(
+        Math.max(first.maxX, second.maxX) - Math.min(first.minX, second.minX),
+        Math.max(first.maxY, second.maxY) - Math.min(first.minY, second.minY),
+        Math.max(first.maxZ, second.maxZ) - Math.min(first.minZ, second.minZ));
+    }
+
+    /**
+     * calculates the surface area of the given sizes.
+     *
+     * @param x the x size.
+     * @param y the y size.
+     * @param z the z size.
+     *
+     * @return surface area of the sizes.
+     */
+    private static double area(final double x, final double y, final double z) {
+      return 2.0d * (x * y + y * z + z * x);
+    }
+
+    /**
+     * calculates the surface area of the node.
+     *
+     * @return surface area of the node.
+     */
+    private double area() {
+      return Node.area(this.maxX - this.minX, this.maxY - this.minY, this.maxZ - this.minZ);
+    }
+
+    /**
+     * checks if the node bounds contain the given point.
+     *
+     * @param x the x to check.
+     * @param y the y to check.
+     * @param z the z to check.
+     *
+     * @return {@code true} if the bounds contain the point.
+     */
+    private boolean contains(final double x, final double y, final double z) {
+      return this.minX <= x && x <= this.maxX &&
+        this.minY <= y && y <= this.maxY &&
+        this.minZ <= z && z <= this.maxZ;
+    }
+
+    /**
+     * calculates the squared distance of the given point to the node bounds.
+     *
+     * @param x the x to calculate.
+     * @param y the y to calculate.
+     * @param z the z to calculate.
+     *
+     * @return squared distance of the point.
+     */
+    private double distanceSquared(final double x, final double y, final double z) {
+      final var dx = Math.max(0.0d, Math.max(this.minX - x, x - this.maxX));
+      final var dy = Math.max(0.0d, Math.max(this.minY - y, y - this.maxY));
+      final var dz = Math.max(0.0d, Math.max(this.minZ - z, z - this.maxZ));
+      return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * recalculates the bounds and the height from the children.
+     */
+    private void fit() {
+      this.height = 1 + Math.max(this.child1.height, this.child2.height);
+      this.minX = Math.min(this.child1.minX, this.child2.minX);
+      this.minY = Math.min(this.child1.minY, this.child2.minY);
+      this.minZ = Math.min(this.child1.minZ, this.child2.minZ);
+      this.maxX = Math.max(this.child1.maxX, this.child2.maxX);
+      this.maxY = Math.max(this.child1.maxY, this.child2.maxY);
+      this.maxZ = Math.max(this.child1.maxZ, this.child2.maxZ);
+    }
+
+    /**
+     * checks if the node bounds intersect the given node bounds.
+     *
+     * @param other the other to check.
+     *
+     * @return {@code true} if the bounds intersect.
+     */
+    private boolean intersects(@NotNull final Node other) {
+      return this.minX <= other.maxX && other.minX <= this.maxX &&
+        this.minY <= other.maxY && other.minY <= this.maxY &&
+        this.minZ <= other.maxZ && other.minZ <= this.maxZ;
+    }
+
+    /**
+     * checks if the node is a leaf.
+     *
+     * @return {@code true} if the node has no children.
+     */
+    private boolean isLeaf() {
+      return this.child1 == null;
+    }
+
+    /**
+     * replaces the given child with the given node.
+     *
+     * @param child the child to replace.
+     * @param node the node to put.
+     */
+    private void replace(@NotNull final Node child, @NotNull final Node node) {
+      if (this.child1 == child) {
+        this.child1 = node;
+      } else {
+        this.child2 = node;
+      }
+      node.parent = this;
+    }
+  }
+}
@@ -0,0 +1,339 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents memory mapped binary file of {@link CompactCuboid}s.
+ * <p>
+ * the file starts with a header that contains the magic, the version, the region count and the capacity, and
+ * continues with fixed width records, so any region can be read or updated in place by its index. the store is not
+ * thread-safe.
+ */
+public final class RegionStore implements Closeable {
+
+  /**
+   * the header size.
+   */
+  private static final int HEADER_SIZE = 32;
+
+  /**
+   * the magic of the file.
+   */
+  private static final int MAGIC = 0x424C5253;
+
+  /**
+   * the maximum record capacity, a mapped buffer cannot be larger than {@link Integer#MAX_VALUE} bytes.
+   */
+  private static final int MAX_CAPACITY = (Integer.MAX_VALUE - RegionStore.HEADER_SIZE) / RegionStore.RECORD_SIZE;
+
+  /**
+   * the record size.
+   */
+  private static final int RECORD_SIZE = 40;
+
+  /**
+   * the version of the file.
+   */
+  private static final int VERSION = 1;
+
+  /**
+   * the channel.
+   */
+  @NotNull
+  private final FileChannel channel;
+
+  /**
+   * the mapped buffer.
+   */
+  @NotNull
+  private MappedByteBuffer buffer;
+
+  /**
+   * the record capacity.
+   */
+  private int capacity;
+
+  /**
+   * the record count.
+   */
+  private int size;
+
+  /**
+   * ctor.
+   *
+   * @param channel the channel.
+   * @param buffer the mapped buffer.
+   * @param size the record count.
+   * @param capacity the record capacity.
+   */
+  private RegionStore(@NotNull final FileChannel channel, @NotNull final MappedByteBuffer buffer, final int size,
+                      final int capacity) {
+    this.channel = channel;
+    this.buffer = buffer;
+    this.size = size;
+    this.capacity = capacity;
+  }
+
+  /**
+   * opens or creates the store at the given path.
+   *
+   * @param path the path to open.
+   *
+   * @return a new store instance.
+   *
+   * @throws IOException if the file cannot be opened or is not a region store.
+   */
+  @NotNull
+  public static RegionStore open(@NotNull final Path path) throws IOException {
+    final var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+      StandardOpenOption.WRITE);
+    try {
+      if (channel.size() == 0L) {
+        final var capacity = 64;
+        final var buffer = RegionStore.map(channel, capacity);
+        buffer.putInt(0, RegionStore.MAGIC);
+        buffer.putInt(4, RegionStore.VERSION);
+        buffer.putInt(8, 0);
+        buffer.putInt(12, capacity);
+        return new RegionStore(channel, buffer, 0, capacity);
+      }
+      if (channel.size() < RegionStore.HEADER_SIZE) {
+        throw new IOException(path + " is not a region store!");
+      }
+      final var header = channel.map(FileChannel.MapMode.READ_ONLY, 0L, RegionStore.HEADER_SIZE);
+      if (header.getInt(0) != RegionStore.MAGIC || header.getInt(4) != RegionStore.VERSION) {
+        throw new IOException(path + " is not a region store!");
+      }
+      final var size = header.getInt(8);
+      final var capacity = header.getInt(12);
+      if (size < 0 || size > capacity || capacity > RegionStore.MAX_CAPACITY ||
+        channel.size() < RegionStore.HEADER_SIZE + (long) capacity * RegionStore.RECORD_SIZE) {
+        throw new IOException(path + " is corrupted!");
+      }
+      return new RegionStore(channel, RegionStore.map(channel, capacity), size, capacity);
+    } catch (final IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * appends the given cuboid.
+   *
+   * @param cuboid the cuboid to append.
+   *
+   * @return index of the appended cuboid.
+   *
+   * @throws IOException if the file cannot be grown or the store is full.
+   */
+  public int append(@NotNull final CompactCuboid cuboid) throws IOException {
+    if (this.size == this.capacity) {
+      if (this.capacity == RegionStore.MAX_CAPACITY) {
+        throw new IOException("The region store is full, it cannot contain more than " +
+          RegionStore.MAX_CAPACITY + " regions!");
+      }
+      this.buffer.force();
+      this.capacity = (int) Math.min((long) this.capacity * 2L, RegionStore.MAX_CAPACITY);
+      this.buffer = RegionStore.map(this.channel, this.capacity);
+      this.buffer.putInt(12, this.capacity);
+    }
+    final var index = this.size;
+    this.write(index, cuboid);
+    this.size++;
+    this.buffer.putInt(8, this.size);
+    return index;
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.flush();
+    this.channel.close();
+  }
+
+  /**
+   * writes the changes to the disk.
+   */
+  public void flush() {
+    this.buffer.force();
+  }
+
+  /**
+   * runs the given action for the block bounds of each cuboid in the given world.
+   * <p>
+   * the bounds are read straight from the mapped file, so nothing is allocated per record.
+   *
+   * @param world the world to run.
+   * @param action the action to run.
+   *
+   * @see RegionIndex#load(RegionStore, World)
+   */
+  public void forEachBounds(@NotNull final World world, @NotNull final BoundsConsumer action) {
+    final var worldId = world.getUID();
+    final var most = worldId.getMostSignificantBits();
+    final var least = worldId.getLeastSignificantBits();
+    for (var index = 0; index < this.size; index++) {
+      final var offset = RegionStore.offset(index);
+      if (this.buffer.getLong(offset) != most || this.buffer.getLong(offset + 8) != least) {
+        continue;
+      }
+      action.accept(index,
+        this.buffer.getInt(offset + 16), this.buffer.getInt(offset + 20), this.buffer.getInt(offset + 24),
+        this.buffer.getInt(offset + 28), this.buffer.getInt(offset + 32), this.buffer.getInt(offset + 36));
+    }
+  }
+
+  /**
+   * runs the given action for each cuboid in the given world.
+   * <p>
+   * the world ids are compared in the mapped file, so the regions of other worlds are never read.
+   *
+   * @param world the world to run.
+   * @param action the action to run.
+   */
+  public void forEachCuboid(@NotNull final World world, @NotNull final Consumer<Cuboid> action) {
+    this.forEachBounds(world, (index, minX, minY, minZ, maxX, maxY, maxZ) ->
+      action.accept(new Cuboid(new Location(world, minX, minY, minZ), new Location(world, maxX, maxY, maxZ))));
+  }
+
+  /**
+   * reads the cuboid at the given index.
+   *
+   * @param index the index to read.
+   *
+   * @return the cuboid at the index.
+   *
+   * @throws IndexOutOfBoundsException if the index is out of the store.
+   */
+  @NotNull
+  public CompactCuboid get(final int index) {
+    Objects.checkIndex(index, this.size);
+    final var offset = RegionStore.offset(index);
+    return new CompactCuboid(
+      new UUID(this.buffer.getLong(offset), this.buffer.getLong(offset + 8)),
+      this.buffer.getInt(offset + 16), this.buffer.getInt(offset + 20), this.buffer.getInt(offset + 24),
+      this.buffer.getInt(offset + 28), this.buffer.getInt(offset + 32), this.buffer.getInt(offset + 36));
+  }
+
+  /**
+   * updates the cuboid at the given index in place.
+   *
+   * @param index the index to update.
+   * @param cuboid the cuboid to write.
+   *
+   * @throws IndexOutOfBoundsException if the index is out of the store.
+   */
+  public void set(final int index, @NotNull final CompactCuboid cuboid) {
+    Objects.checkIndex(index, this.size);
+    this.write(index, cuboid);
+  }
+
+  /**
+   * obtains the cuboid count.
+   *
+   * @return cuboid count of the store.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * maps the given channel for the given capacity.
+   *
+   * @param channel the channel to map.
+   * @param capacity the record capacity.
+   *
+   * @return a mapped buffer.
+   *
+   * @throws IOException if the channel cannot be mapped.
+   */
+  @NotNull
+  private static MappedByteBuffer map(@NotNull final FileChannel channel, final int capacity) throws IOException {
+    return channel.map(FileChannel.MapMode.READ_WRITE, 0L,
+      RegionStore.HEADER_SIZE + (long) capacity * RegionStore.RECORD_SIZE);
+  }
+
+  /**
+   * calculates the offset of the given record index.
+   *
+   * @param index the index to calculate.
+   *
+   * @return offset of the record.
+   */
+  private static int offset(final int index) {
+    return Math.addExact(RegionStore.HEADER_SIZE, Math.multiplyExact(index, RegionStore.RECORD_SIZE));
+  }
+
+  /**
+   * writes the given cuboid at the given index.
+   *
+   * @param index the index to write.
+   * @param cuboid the cuboid to write.
+   */
+  private void write(final int index, @NotNull final CompactCuboid cuboid) {
+    final var offset = RegionStore.offset(index);
+    this.buffer.putLong(offset, cuboid.getWorldId().getMostSignificantBits());
+    this.buffer.putLong(offset + 8, cuboid.getWorldId().getLeastSignificantBits());
+    this.buffer.putInt(offset + 16, cuboid.getMinX());
+    this.buffer.putInt(offset + 20, cuboid.getMinY());
+    this.buffer.putInt(offset + 24, cuboid.getMinZ());
+    this.buffer.putInt(offset + 28, cuboid.getMaxX());
+    this.buffer.putInt(offset + 32, cuboid.getMaxY());
+    this.buffer.putInt(offset + 36, cuboid.getMaxZ());
+  }
+
+  /**
+   * an interface to consume block bounds of the records of a {@link RegionStore}.
+   */
+  @FunctionalInterface
+  public interface BoundsConsumer {
+
+    /**
+     * consumes the given bounds.
+     *
+     * @param index the record index.
+     * @param minX the minimum block x.
+     * @param minY the minimum block y.
+     * @param minZ the minimum block z.
+     * @param maxX the maximum block x.
+     * @param maxY the maximum block y.
+     * @param maxZ the maximum block z.
+     */
+    void accept(int index, int minX, int minY, int minZ, int maxX, int maxY, int maxZ);
+  }
+}
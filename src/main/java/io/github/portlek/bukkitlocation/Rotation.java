@@ -0,0 +1,444 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents immutable 3x3 rotation matrix.
+ * <p>
+ * the sines and the cosines are calculated once when the rotation is created, so a rotation which is shared by many
+ * points costs nine multiplications per point. factories without a {@link TrigonometryMode} use
+ * {@link VectorUtil#getTrigonometryMode()}. all factories create orthonormal matrices, so they keep the distances
+ * and the angles between the points.
+ */
+@ToString
+@EqualsAndHashCode
+@Getter(AccessLevel.PACKAGE)
+public final class Rotation {
+
+  /**
+   * the identity rotation.
+   */
+  public static final Rotation IDENTITY = new Rotation(
+    1.0d, 0.0d, 0.0d,
+    0.0d, 1.0d, 0.0d,
+    0.0d, 0.0d, 1.0d);
+
+  /**
+   * the element at row 0, column 0.
+   */
+  private final double m00;
+
+  /**
+   * the element at row 0, column 1.
+   */
+  private final double m01;
+
+  /**
+   * the element at row 0, column 2.
+   */
+  private final double m02;
+
+  /**
+   * the element at row 1, column 0.
+   */
+  private final double m10;
+
+  /**
+   * the element at row 1, column 1.
+   */
+  private final double m11;
+
+  /**
+   * the element at row 1, column 2.
+   */
+  private final double m12;
+
+  /**
+   * the element at row 2, column 0.
+   */
+  private final double m20;
+
+  /**
+   * the element at row 2, column 1.
+   */
+  private final double m21;
+
+  /**
+   * the element at row 2, column 2.
+   */
+  private final double m22;
+
+  /**
+   * ctor.
+   *
+   * @param m00 the element at row 0, column 0.
+   * @param m01 the element at row 0, column 1.
+   * @param m02 the element at row 0, column 2.
+   * @param m10 the element at row 1, column 0.
+   * @param m11 the element at row 1, column 1.
+   * @param m12 the element at row 1, column 2.
+   * @param m20 the element at row 2, column 0.
+   * @param m21 the element at row 2, column 1.
+   * @param m22 the element at row 2, column 2.
+   */
+  private Rotation(final double m00, final double m01, final double m02,
+                   final double m10, final double m11, final double m12,
+                   final double m20, final double m21, final double m22) {
+    this.m00 = m00;
+    this.m01 = m01;
+    this.m02 = m02;
+    this.m10 = m10;
+    this.m11 = m11;
+    this.m12 = m12;
+    this.m20 = m20;
+    this.m21 = m21;
+    this.m22 = m22;
+  }
+
+  /**
+   * creates a rotation around x axis.
+   *
+   * @param angle the angle in radians.
+   *
+   * @return a new rotation.
+   */
+  @NotNull
+  public static Rotation ofAxisX(final double angle) {
+    return Rotation.ofAxisX(angle, VectorUtil.getTrigonometryMode());
+  }
+
+  /**
+   * creates a rotation around x axis.
+   *
+   * @param angle the angle in radians.
+   * @param mode the trigonometry mode.
+   *
+   * @return a new rotation.
+   */
+  @NotNull
+  public static Rotation ofAxisX(final double angle, @NotNull final TrigonometryMode mode) {
+    final var cos = mode.cos(angle);
+    final var sin = mode.sin(angle);
+    return new Rotation(
+      1.0d, 0.0d, 0.0d,
+      0.0d, cos, -sin,
+      0.0d, sin, cos);
+  }
+
+  /**
+   * creates a rotation around y axis.
+   *
+   * @param angle the angle in radians.
+   *
+   * @return a new rotation.
+   */
+  @NotNull
+  public static Rotation ofAxisY(final double angle) {
+    return Rotation.ofAxisY(angle, VectorUtil.getTrigonometryMode());
+  }
+
+  /**
+   * creates a rotation around y axis.
+   *
+   * @param angle the angle in radians.
+   * @param mode the trigonometry mode.
+   *
+   * @return a new rotation.
+   */
+  @NotNull
+  public static Rotation ofAxisY(final double angle, @NotNull final TrigonometryMode mode) {
+    final var cos = mode.cos(angle);
+    final var sin = mode.sin(angle);
+    return new Rotation(
+      cos, 0.0d, sin,
+      0.0d, 1.0d, 0.0d,
+      -sin, 0.0d, cos);
+  }
+
+  /**
+   * creates a rotation around z axis.
+   *
+   * @param angle the angle in radians.
+   *
+   * @return a new rotation.
+   */
+  @NotNull
+  public static Rotation ofAxisZ(final double angle) {
+    return Rotation.ofAxisZ(angle, VectorUtil.getTrigonometryMode());
+  }
+
+  /**
+   * creates a rotation around z axis.
+   *
+   * @param angle the angle in radians.
+   * @param mode the trigonometry mode.
+   *
+   * @return a new rotation.
+   */
+  @NotNull
+  public static Rotation ofAxisZ(final double angle, @NotNull final TrigonometryMode mode) {
+    final var cos = mode.cos(angle);
+    final var sin = mode.sin(angle);
+    return new Rotation(
+      cos, -sin, 0.0d,
+      sin, cos, 0.0d,
+      0.0d, 0.0d, 1.0d);
+  }
+
+  /**
+   * creates a rotation which rotates around x axis, then y axis and then z axis.
+   *
+   * @param angleX the x angle in radians.
+   * @param angleY the y angle in radians.
+   * @param angleZ the z angle in radians.
+   *
+   * @return a new rotation.
+   */
+  @NotNull
+  public static Rotation ofEuler(final double angleX, final double angleY, final double angleZ) {
+    return Rotation.ofEuler(angleX, angleY, angleZ, VectorUtil.getTrigonometryMode());
+  }
+
+  /**
+   * creates a rotation which rotates around x axis, then y axis and then z axis.
+   *
+   * @param angleX the x angle in radians.
+   * @param angleY the y angle in radians.
+   * @param angleZ the z angle in radians.
+   * @param mode the trigonometry mode.
+   *
+   * @return a new rotation.
+   */
+  @NotNull
+  public static Rotation ofEuler(final double angleX, final double angleY, final double angleZ,
+                                 @NotNull final TrigonometryMode mode) {
+    return Rotation.ofAxisZ(angleZ, mode)
+      .multiply(Rotation.ofAxisY(angleY, mode))
+      .multiply(Rotation.ofAxisX(angleX, mode));
+  }
+
+  /**
+   * creates a rotation from the yaw and the pitch of the given location.
+   *
+   * @param location the location to create.
+   *
+   * @return a new rotation.
+   *
+   * @see #ofYawPitch(double, double)
+   */
+  @NotNull
+  public static Rotation ofLocation(@NotNull final Location location) {
+    return Rotation.ofYawPitch(location.getYaw(), location.getPitch());
+  }
+
+  /**
+   * creates a rotation which rotates around z axis with the pitch and then around y axis with the yaw.
+   * <p>
+   * the x axis of the points is turned to the direction of the yaw and the pitch, e.g. a yaw and a pitch of
+   * {@code 0} turns the x axis to the z axis, which is the south. the rotation gives the same result with
+   * {@link VectorUtil#rotateVector(Vector, double, double)}.
+   *
+   * @param yawDegrees the yaw degree.
+   * @param pitchDegrees the pitch degree.
+   *
+   * @return a new rotation.
+   */
+  @NotNull
+  public static Rotation ofYawPitch(final double yawDegrees, final double pitchDegrees) {
+    return Rotation.ofYawPitch(yawDegrees, pitchDegrees, VectorUtil.getTrigonometryMode());
+  }
+
+  /**
+   * creates a rotation which rotates around z axis with the pitch and then around y axis with the yaw.
+   *
+   * @param yawDegrees the yaw degree.
+   * @param pitchDegrees the pitch degree.
+   * @param mode the trigonometry mode.
+   *
+   * @return a new rotation.
+   *
+   * @see #ofYawPitch(double, double)
+   */
+  @NotNull
+  public static Rotation ofYawPitch(final double yawDegrees, final double pitchDegrees,
+                                    @NotNull final TrigonometryMode mode) {
+    final var yaw = Math.toRadians(-1.0d * (yawDegrees + 90.0d));
+    final var pitch = Math.toRadians(-pitchDegrees);
+    final var cosYaw = mode.cos(yaw);
+    final var cosPitch = mode.cos(pitch);
+    final var sinYaw = mode.sin(yaw);
+    final var sinPitch = mode.sin(pitch);
+    return new Rotation(
+      cosYaw * cosPitch, -cosYaw * sinPitch, sinYaw,
+      sinPitch, cosPitch, 0.0d,
+      -sinYaw * cosPitch, sinYaw * sinPitch, cosYaw);
+  }
+
+  /**
+   * rotates the given vector in place.
+   *
+   * @param vector the vector to rotate.
+   *
+   * @return the given vector.
+   */
+  @NotNull
+  public Vector apply(@NotNull final Vector vector) {
+    final var x = vector.getX();
+    final var y = vector.getY();
+    final var z = vector.getZ();
+    return vector.setX(this.m00 * x + this.m01 * y + this.m02 * z)
+      .setY(this.m10 * x + this.m11 * y + this.m12 * z)
+      .setZ(this.m20 * x + this.m21 * y + this.m22 * z);
+  }
+
+  /**
+   * rotates the given coordinates in place.
+   * <p>
+   * on java 17 and newer, the coordinates are rotated with the vector api when the server is started with
+   * {@code --add-modules jdk.incubator.vector}.
+   *
+   * @param xs the x coordinates.
+   * @param ys the y coordinates.
+   * @param zs the z coordinates.
+   *
+   * @throws IllegalArgumentException if the lengths of the arrays are not same.
+   */
+  public void apply(@NotNull final double[] xs, @NotNull final double[] ys, @NotNull final double[] zs) {
+    Preconditions.checkArgument(xs.length == ys.length && ys.length == zs.length,
+      "Coordinate arrays must have the same length!");
+    RotationKernels.KERNEL.apply(this, xs, ys, zs, xs.length);
+  }
+
+  /**
+   * rotates the given interleaved coordinates which look like {@code x0, y0, z0, x1, y1, z1...} in place.
+   *
+   * @param coordinates the coordinates to rotate.
+   *
+   * @throws IllegalArgumentException if the length of the array is not a multiple of 3.
+   */
+  public void apply(@NotNull final double[] coordinates) {
+    Preconditions.checkArgument(coordinates.length % 3 == 0, "Coordinate array length must be a multiple of 3!");
+    this.apply(coordinates, 0, coordinates, 0, coordinates.length / 3);
+  }
+
+  /**
+   * rotates the given interleaved coordinates into the given target.
+   * <p>
+   * the source and the target can be the same array.
+   *
+   * @param source the coordinates to rotate.
+   * @param sourceOffset the index of the first source coordinate.
+   * @param target the array to write.
+   * @param targetOffset the index of the first target coordinate.
+   * @param count the point count.
+   *
+   * @throws IndexOutOfBoundsException if any of the arrays is too short.
+   */
+  public void apply(@NotNull final double[] source, final int sourceOffset, @NotNull final double[] target,
+                    final int targetOffset, final int count) {
+    Preconditions.checkPositionIndexes(sourceOffset, sourceOffset + count * 3, source.length);
+    Preconditions.checkPositionIndexes(targetOffset, targetOffset + count * 3, target.length);
+    for (var index = 0; index < count; index++) {
+      final var from = sourceOffset + index * 3;
+      final var to = targetOffset + index * 3;
+      final var x = source[from];
+      final var y = source[from + 1];
+      final var z = source[from + 2];
+      target[to] = this.m00 * x + this.m01 * y + this.m02 * z;
+      target[to + 1] = this.m10 * x + this.m11 * y + this.m12 * z;
+      target[to + 2] = this.m20 * x + this.m21 * y + this.m22 * z;
+    }
+  }
+
+  /**
+   * combines the rotation with the given rotation.
+   *
+   * @param other the rotation which is applied first.
+   *
+   * @return a new rotation which applies the given rotation and then this rotation.
+   */
+  @NotNull
+  public Rotation multiply(@NotNull final Rotation other) {
+    return new Rotation(
+      this.m00 * other.m00 + this.m01 * other.m10 + this.m02 * other.m20,
+      this.m00 * other.m01 + this.m01 * other.m11 + this.m02 * other.m21,
+      this.m00 * other.m02 + this.m01 * other.m12 + this.m02 * other.m22,
+      this.m10 * other.m00 + this.m11 * other.m10 + this.m12 * other.m20,
+      this.m10 * other.m01 + this.m11 * other.m11 + this.m12 * other.m21,
+      this.m10 * other.m02 + this.m11 * other.m12 + this.m12 * other.m22,
+      this.m20 * other.m00 + this.m21 * other.m10 + this.m22 * other.m20,
+      this.m20 * other.m01 + this.m21 * other.m11 + this.m22 * other.m21,
+      this.m20 * other.m02 + this.m21 * other.m12 + this.m22 * other.m22);
+  }
+
+  /**
+   * rotates the given point and returns its x.
+   *
+   * @param x the x to rotate.
+   * @param y the y to rotate.
+   * @param z the z to rotate.
+   *
+   * @return rotated x.
+   */
+  double x(final double x, final double y, final double z) {
+    return this.m00 * x + this.m01 * y + this.m02 * z;
+  }
+
+  /**
+   * rotates the given point and returns its y.
+   *
+   * @param x the x to rotate.
+   * @param y the y to rotate.
+   * @param z the z to rotate.
+   *
+   * @return rotated y.
+   */
+  double y(final double x, final double y, final double z) {
+    return this.m10 * x + this.m11 * y + this.m12 * z;
+  }
+
+  /**
+   * rotates the given point and returns its z.
+   *
+   * @param x the x to rotate.
+   * @param y the y to rotate.
+   * @param z the z to rotate.
+   *
+   * @return rotated z.
+   */
+  double z(final double x, final double y, final double z) {
+    return this.m20 * x + this.m21 * y + this.m22 * z;
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an implementation of {@link RotationKernel} that rotates a point at a time.
+ */
+enum ScalarRotationKernel implements RotationKernel {
+
+  /**
+   * the instance.
+   */
+  INSTANCE;
+
+  @Override
+  public void apply(@NotNull final Rotation rotation, @NotNull final double[] xs, @NotNull final double[] ys,
+                    @NotNull final double[] zs, final int length) {
+    ScalarRotationKernel.apply(rotation, xs, ys, zs, 0, length);
+  }
+
+  /**
+   * rotates the given range of the coordinates in place.
+   *
+   * @param rotation the rotation to apply.
+   * @param xs the x coordinates.
+   * @param ys the y coordinates.
+   * @param zs the z coordinates.
+   * @param from the first index, inclusive.
+   * @param to the last index, exclusive.
+   */
+  static void apply(@NotNull final Rotation rotation, @NotNull final double[] xs, @NotNull final double[] ys,
+                    @NotNull final double[] zs, final int from, final int to) {
+    for (var index = from; index < to; index++) {
+      final var x = xs[index];
+      final var y = ys[index];
+      final var z = zs[index];
+      xs[index] = rotation.x(x, y, z);
+      ys[index] = rotation.y(x, y, z);
+      zs[index] = rotation.z(x, y, z);
+    }
+  }
+}
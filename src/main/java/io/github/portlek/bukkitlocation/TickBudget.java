@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents the amount of work a {@link CuboidJob} can do in a single tick.
+ */
+public final class TickBudget {
+
+  /**
+   * the maximum block count per tick.
+   */
+  @Getter
+  private final int blocks;
+
+  /**
+   * the maximum nano seconds per tick.
+   */
+  @Getter
+  private final long nanos;
+
+  /**
+   * ctor.
+   *
+   * @param blocks the maximum block count per tick.
+   * @param nanos the maximum nano seconds per tick.
+   */
+  private TickBudget(final int blocks, final long nanos) {
+    this.blocks = blocks;
+    this.nanos = nanos;
+  }
+
+  /**
+   * creates a budget that only limits the block count.
+   *
+   * @param blocks the maximum block count per tick.
+   *
+   * @return a new budget instance.
+   */
+  @NotNull
+  public static TickBudget blocks(final int blocks) {
+    return TickBudget.of(blocks, Long.MAX_VALUE);
+  }
+
+  /**
+   * creates a budget that only limits the time.
+   *
+   * @param millis the maximum milli seconds per tick.
+   *
+   * @return a new budget instance.
+   */
+  @NotNull
+  public static TickBudget millis(final long millis) {
+    return TickBudget.of(Integer.MAX_VALUE, TimeUnit.MILLISECONDS.toNanos(millis));
+  }
+
+  /**
+   * creates a budget that limits both the block count and the time.
+   * <p>
+   * at least one block is processed in every tick regardless of the time limit.
+   *
+   * @param blocks the maximum block count per tick.
+   * @param nanos the maximum nano seconds per tick.
+   *
+   * @return a new budget instance.
+   *
+   * @throws IllegalArgumentException if the given values are not positive.
+   */
+  @NotNull
+  public static TickBudget of(final int blocks, final long nanos) {
+    Preconditions.checkArgument(blocks > 0, "Block count must be positive!");
+    Preconditions.checkArgument(nanos > 0L, "Time must be positive!");
+    return new TickBudget(blocks, nanos);
+  }
+}
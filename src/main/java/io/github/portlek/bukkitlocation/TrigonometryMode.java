@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+/**
+ * an enum that contains precision modes of sine and cosine calculations.
+ *
+ * @see VectorUtil#setTrigonometryMode(TrigonometryMode)
+ */
+public enum TrigonometryMode {
+
+  /**
+   * the mode which uses {@link StrictMath}, so results are same on every platform.
+   */
+  STRICT {
+    @Override
+    public double cos(final double angle) {
+      return StrictMath.cos(angle);
+    }
+
+    @Override
+    public double sin(final double angle) {
+      return StrictMath.sin(angle);
+    }
+  },
+  /**
+   * the mode which uses {@link Math}, so the jvm can use intrinsics and results are within 1 ulp.
+   */
+  FAST {
+    @Override
+    public double cos(final double angle) {
+      return Math.cos(angle);
+    }
+
+    @Override
+    public double sin(final double angle) {
+      return Math.sin(angle);
+    }
+  },
+  /**
+   * the mode which interpolates a lookup table linearly.
+   * <p>
+   * the absolute error is below {@code 3.0e-7} for angles between {@code -1.0e6} and {@code 1.0e6} radians, which is
+   * far below what particles and entity movement can show.
+   */
+  APPROXIMATE {
+    @Override
+    public double cos(final double angle) {
+      return Table.lookup(angle * Table.SCALE + Table.QUARTER);
+    }
+
+    @Override
+    public double sin(final double angle) {
+      return Table.lookup(angle * Table.SCALE);
+    }
+  };
+
+  /**
+   * calculates the cosine of the given angle.
+   *
+   * @param angle the angle in radians.
+   *
+   * @return cosine of the angle.
+   */
+  public abstract double cos(double angle);
+
+  /**
+   * calculates the sine of the given angle.
+   *
+   * @param angle the angle in radians.
+   *
+   * @return sine of the angle.
+   */
+  public abstract double sin(double angle);
+
+  /**
+   * a class that contains the sine table of {@link #APPROXIMATE}.
+   */
+  private static final class Table {
+
+    /**
+     * the sample count of a full turn.
+     */
+    private static final int SIZE = 4096;
+
+    /**
+     * the mask to wrap sample indexes.
+     */
+    private static final int MASK = Table.SIZE - 1;
+
+    /**
+     * the sample count of a quarter turn.
+     */
+    private static final double QUARTER = Table.SIZE / 4.0d;
+
+    /**
+     * the sample count of a radian.
+     */
+    private static final double SCALE = Table.SIZE / (2.0d * Math.PI);
+
+    /**
+     * the samples which contain one extra sample for the interpolation.
+     */
+    private static final double[] SINES = new double[Table.SIZE + 1];
+
+    static {
+      for (var index = 0; index <= Table.SIZE; index++) {
+        Table.SINES[index] = StrictMath.sin(index * (2.0d * Math.PI) / Table.SIZE);
+      }
+    }
+
+    /**
+     * ctor.
+     */
+    private Table() {
+    }
+
+    /**
+     * interpolates the sine at the given sample index.
+     *
+     * @param index the sample index which may be negative or bigger than the table.
+     *
+     * @return interpolated sine.
+     */
+    private static double lookup(final double index) {
+      final var floor = Math.floor(index);
+      final var fraction = index - floor;
+      final var sample = (int) ((long) floor & Table.MASK);
+      final var start = Table.SINES[sample];
+      return start + (Table.SINES[sample + 1] - start) * fraction;
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents immutable location which refers its world by name.
+ * <p>
+ * stored locations can be loaded before their worlds, so the world is bound when it is needed, see
+ * {@link WorldCache#bind(UnresolvedLocation, java.util.function.Consumer)}.
+ */
+@ToString
+@EqualsAndHashCode
+public final class UnresolvedLocation {
+
+  /**
+   * the pitch.
+   */
+  @Getter
+  private final float pitch;
+
+  /**
+   * the world name.
+   */
+  @NotNull
+  @Getter
+  private final String worldName;
+
+  /**
+   * the x.
+   */
+  @Getter
+  private final double x;
+
+  /**
+   * the y.
+   */
+  @Getter
+  private final double y;
+
+  /**
+   * the yaw.
+   */
+  @Getter
+  private final float yaw;
+
+  /**
+   * the z.
+   */
+  @Getter
+  private final double z;
+
+  /**
+   * ctor.
+   *
+   * @param worldName the world name.
+   * @param x the x.
+   * @param y the y.
+   * @param z the z.
+   * @param yaw the yaw.
+   * @param pitch the pitch.
+   */
+  public UnresolvedLocation(@NotNull final String worldName, final double x, final double y, final double z,
+                            final float yaw, final float pitch) {
+    this.worldName = worldName;
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    this.yaw = yaw;
+    this.pitch = pitch;
+  }
+
+  /**
+   * ctor.
+   *
+   * @param worldName the world name.
+   * @param x the x.
+   * @param y the y.
+   * @param z the z.
+   */
+  public UnresolvedLocation(@NotNull final String worldName, final double x, final double y, final double z) {
+    this(worldName, x, y, z, 0.0f, 0.0f);
+  }
+
+  /**
+   * creates an unresolved location from the given location.
+   *
+   * @param location the location to create.
+   *
+   * @return a new unresolved location.
+   *
+   * @throws IllegalStateException if the given location has not a world.
+   */
+  @NotNull
+  public static UnresolvedLocation of(@NotNull final Location location) {
+    return new UnresolvedLocation(LocationUtil.validWorld(location).getName(), location.getX(), location.getY(),
+      location.getZ(), location.getYaw(), location.getPitch());
+  }
+
+  /**
+   * resolves the world from the given cache.
+   *
+   * @param worlds the cache to resolve.
+   *
+   * @return a location or an empty optional if the world is not loaded.
+   */
+  @NotNull
+  public Optional<Location> resolve(@NotNull final WorldCache worlds) {
+    return worlds.find(this.worldName).map(this::toLocation);
+  }
+
+  /**
+   * converts the location into a {@link Location} in the given world.
+   *
+   * @param world the world to convert.
+   *
+   * @return a new location.
+   */
+  @NotNull
+  public Location toLocation(@NotNull final World world) {
+    return new Location(world, this.x, this.y, this.z, this.yaw, this.pitch);
+  }
+}
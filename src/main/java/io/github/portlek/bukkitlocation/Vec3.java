@@ -0,0 +1,314 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents lightweight, mutable vector for allocation free math in hot loops.
+ * <p>
+ * every operation changes the vector in place and returns it, so a scratch instance can be reused across calls.
+ * rotations use {@link VectorUtil#getTrigonometryMode()}. the class is not thread-safe.
+ */
+@ToString
+public final class Vec3 {
+
+  /**
+   * the x.
+   */
+  @Getter
+  private double x;
+
+  /**
+   * the y.
+   */
+  @Getter
+  private double y;
+
+  /**
+   * the z.
+   */
+  @Getter
+  private double z;
+
+  /**
+   * ctor.
+   *
+   * @param x the x.
+   * @param y the y.
+   * @param z the z.
+   */
+  public Vec3(final double x, final double y, final double z) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+  }
+
+  /**
+   * ctor.
+   */
+  public Vec3() {
+    this(0.0d, 0.0d, 0.0d);
+  }
+
+  /**
+   * creates a vector from the given vector.
+   *
+   * @param vector the vector to create.
+   *
+   * @return a new vector.
+   */
+  @NotNull
+  public static Vec3 of(@NotNull final Vector vector) {
+    return new Vec3(vector.getX(), vector.getY(), vector.getZ());
+  }
+
+  /**
+   * adds the given values.
+   *
+   * @param x the x to add.
+   * @param y the y to add.
+   * @param z the z to add.
+   *
+   * @return the vector.
+   */
+  @NotNull
+  public Vec3 add(final double x, final double y, final double z) {
+    this.x += x;
+    this.y += y;
+    this.z += z;
+    return this;
+  }
+
+  /**
+   * adds the given vector.
+   *
+   * @param other the vector to add.
+   *
+   * @return the vector.
+   */
+  @NotNull
+  public Vec3 add(@NotNull final Vec3 other) {
+    return this.add(other.x, other.y, other.z);
+  }
+
+  /**
+   * copies the vector into the given location's coordinates.
+   *
+   * @param location the location to write.
+   *
+   * @return the given location.
+   */
+  @NotNull
+  public Location copyTo(@NotNull final Location location) {
+    location.setX(this.x);
+    location.setY(this.y);
+    location.setZ(this.z);
+    return location;
+  }
+
+  /**
+   * copies the vector into the given vector.
+   *
+   * @param vector the vector to write.
+   *
+   * @return the given vector.
+   */
+  @NotNull
+  public Vector copyTo(@NotNull final Vector vector) {
+    return vector.setX(this.x).setY(this.y).setZ(this.z);
+  }
+
+  /**
+   * calculates the dot product with the given vector.
+   *
+   * @param other the vector to calculate.
+   *
+   * @return dot product.
+   */
+  public double dot(@NotNull final Vec3 other) {
+    return this.x * other.x + this.y * other.y + this.z * other.z;
+  }
+
+  /**
+   * calculates the length.
+   *
+   * @return length of the vector.
+   */
+  public double length() {
+    return Math.sqrt(this.lengthSquared());
+  }
+
+  /**
+   * calculates the squared length.
+   *
+   * @return squared length of the vector.
+   */
+  public double lengthSquared() {
+    return this.x * this.x + this.y * this.y + this.z * this.z;
+  }
+
+  /**
+   * multiplies the vector with the given factor.
+   *
+   * @param factor the factor to multiply.
+   *
+   * @return the vector.
+   */
+  @NotNull
+  public Vec3 multiply(final double factor) {
+    this.x *= factor;
+    this.y *= factor;
+    this.z *= factor;
+    return this;
+  }
+
+  /**
+   * scales the vector to the unit length, a zero vector stays zero.
+   *
+   * @return the vector.
+   */
+  @NotNull
+  public Vec3 normalize() {
+    final var length = this.length();
+    return length == 0.0d ? this : this.multiply(1.0d / length);
+  }
+
+  /**
+   * rotates the vector with the given rotation.
+   *
+   * @param rotation the rotation to rotate.
+   *
+   * @return the vector.
+   */
+  @NotNull
+  public Vec3 rotate(@NotNull final Rotation rotation) {
+    return this.set(
+      rotation.x(this.x, this.y, this.z),
+      rotation.y(this.x, this.y, this.z),
+      rotation.z(this.x, this.y, this.z));
+  }
+
+  /**
+   * rotates the vector around x axis for the given angle.
+   *
+   * @param angle the angle in radians.
+   *
+   * @return the vector.
+   */
+  @NotNull
+  public Vec3 rotateAroundAxisX(final double angle) {
+    final var mode = VectorUtil.getTrigonometryMode();
+    final var cos = mode.cos(angle);
+    final var sin = mode.sin(angle);
+    return this.set(this.x, this.y * cos - this.z * sin, this.y * sin + this.z * cos);
+  }
+
+  /**
+   * rotates the vector around y axis for the given angle.
+   *
+   * @param angle the angle in radians.
+   *
+   * @return the vector.
+   */
+  @NotNull
+  public Vec3 rotateAroundAxisY(final double angle) {
+    final var mode = VectorUtil.getTrigonometryMode();
+    final var cos = mode.cos(angle);
+    final var sin = mode.sin(angle);
+    return this.set(this.x * cos + this.z * sin, this.y, this.x * -sin + this.z * cos);
+  }
+
+  /**
+   * rotates the vector around z axis for the given angle.
+   *
+   * @param angle the angle in radians.
+   *
+   * @return the vector.
+   */
+  @NotNull
+  public Vec3 rotateAroundAxisZ(final double angle) {
+    final var mode = VectorUtil.getTrigonometryMode();
+    final var cos = mode.cos(angle);
+    final var sin = mode.sin(angle);
+    return this.set(this.x * cos - this.y * sin, this.x * sin + this.y * cos, this.z);
+  }
+
+  /**
+   * sets the coordinates.
+   *
+   * @param x the x to set.
+   * @param y the y to set.
+   * @param z the z to set.
+   *
+   * @return the vector.
+   */
+  @NotNull
+  public Vec3 set(final double x, final double y, final double z) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    return this;
+  }
+
+  /**
+   * sets the coordinates from the given vector.
+   *
+   * @param vector the vector to set.
+   *
+   * @return the vector.
+   */
+  @NotNull
+  public Vec3 set(@NotNull final Vector vector) {
+    return this.set(vector.getX(), vector.getY(), vector.getZ());
+  }
+
+  /**
+   * subtracts the given vector.
+   *
+   * @param other the vector to subtract.
+   *
+   * @return the vector.
+   */
+  @NotNull
+  public Vec3 subtract(@NotNull final Vec3 other) {
+    return this.add(-other.x, -other.y, -other.z);
+  }
+
+  /**
+   * converts the vector into a new {@link Vector}.
+   *
+   * @return a new vector.
+   */
+  @NotNull
+  public Vector toVector() {
+    return new Vector(this.x, this.y, this.z);
+  }
+}
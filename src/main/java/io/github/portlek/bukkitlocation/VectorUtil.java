@@ -34,27 +34,46 @@ import org.jetbrains.annotations.NotNull;
  */
 public final class VectorUtil {
 
+  /**
+   * the trigonometry mode.
+   */
+  @NotNull
+  private static volatile TrigonometryMode trigonometryMode = TrigonometryMode.STRICT;
+
   /**
    * ctor.
    */
   private VectorUtil() {
   }
 
+  /**
+   * obtains the trigonometry mode which is used by the rotations.
+   *
+   * @return trigonometry mode.
+   */
+  @NotNull
+  public static TrigonometryMode getTrigonometryMode() {
+    return VectorUtil.trigonometryMode;
+  }
+
   /**
    * rotates the given vector around x axis for the given angle.
    *
    * @param vector the vector to rotate.
    * @param angle the angle to rotate.
    *
-   * @return a new rotated vector.
+   * @return the given vector.
    */
   @NotNull
   public static Vector rotateAroundAxisX(@NotNull final Vector vector, final double angle) {
-    final var cos = StrictMath.cos(angle);
-    final var sin = StrictMath.sin(angle);
+    final var mode = VectorUtil.trigonometryMode;
+    final var cos = mode.cos(angle);
+    final var sin = mode.sin(angle);
+    final var y = vector.getY();
+    final var z = vector.getZ();
     return vector
-      .setY(vector.getY() * cos - vector.getZ() * sin)
-      .setZ(vector.getY() * sin + vector.getZ() * cos);
+      .setY(y * cos - z * sin)
+      .setZ(y * sin + z * cos);
   }
 
   /**
@@ -63,15 +82,18 @@ public final class VectorUtil {
    * @param vector the vector to rotate.
    * @param angle the angle to rotate.
    *
-   * @return a new rotated vector.
+   * @return the given vector.
    */
   @NotNull
   public static Vector rotateAroundAxisY(@NotNull final Vector vector, final double angle) {
-    final var cos = StrictMath.cos(angle);
-    final var sin = StrictMath.sin(angle);
+    final var mode = VectorUtil.trigonometryMode;
+    final var cos = mode.cos(angle);
+    final var sin = mode.sin(angle);
+    final var x = vector.getX();
+    final var z = vector.getZ();
     return vector
-      .setX(vector.getX() * cos + vector.getZ() * sin)
-      .setZ(vector.getX() * -sin + vector.getZ() * cos);
+      .setX(x * cos + z * sin)
+      .setZ(x * -sin + z * cos);
   }
 
   /**
@@ -80,15 +102,18 @@ public final class VectorUtil {
    * @param vector the vector to rotate.
    * @param angle the angle to rotate.
    *
-   * @return a new rotated vector.
+   * @return the given vector.
    */
   @NotNull
   public static Vector rotateAroundAxisZ(@NotNull final Vector vector, final double angle) {
-    final var cos = StrictMath.cos(angle);
-    final var sin = StrictMath.sin(angle);
+    final var mode = VectorUtil.trigonometryMode;
+    final var cos = mode.cos(angle);
+    final var sin = mode.sin(angle);
+    final var x = vector.getX();
+    final var y = vector.getY();
     return vector
-      .setX(vector.getX() * cos - vector.getY() * sin)
-      .setY(vector.getX() * sin + vector.getY() * cos);
+      .setX(x * cos - y * sin)
+      .setY(x * sin + y * cos);
   }
 
   /**
@@ -99,7 +124,7 @@ public final class VectorUtil {
    * @param angleY the y angle to rotate.
    * @param angleZ the z angle to rotate.
    *
-   * @return a new rotated vector.
+   * @return the given vector.
    */
   @NotNull
   public static Vector rotateVector(@NotNull final Vector vector, final double angleX, final double angleY,
@@ -124,8 +149,25 @@ public final class VectorUtil {
     return VectorUtil.rotateVector(vector, location.getYaw(), location.getPitch());
   }
 
+  /**
+   * rotates the given vector around the given location into the given output.
+   *
+   * @param vector the vector to rotate.
+   * @param location the location to rotate.
+   * @param out the vector to write, which can be the given vector.
+   *
+   * @return the output vector.
+   */
+  @NotNull
+  public static Vector rotateVector(@NotNull final Vector vector, @NotNull final Location location,
+                                    @NotNull final Vector out) {
+    return VectorUtil.rotateVector(vector, location.getYaw(), location.getPitch(), out);
+  }
+
   /**
    * rotates the given vector around the given yaw and pitch degrees.
+   * <p>
+   * the vector is rotated around z axis with the pitch and then around y axis with the yaw, so its length is kept.
    *
    * @param vector the vector to rotate.
    * @param yawDegrees the yaw degree to rotate.
@@ -135,19 +177,49 @@ public final class VectorUtil {
    */
   @NotNull
   public static Vector rotateVector(@NotNull final Vector vector, final double yawDegrees, final double pitchDegrees) {
+    return VectorUtil.rotateVector(vector, yawDegrees, pitchDegrees, new Vector());
+  }
+
+  /**
+   * rotates the given vector around the given yaw and pitch degrees into the given output.
+   * <p>
+   * the vector is rotated around z axis with the pitch and then around y axis with the yaw, so its length is kept.
+   *
+   * @param vector the vector to rotate.
+   * @param yawDegrees the yaw degree to rotate.
+   * @param pitchDegrees the pitch degree to rotate.
+   * @param out the vector to write, which can be the given vector.
+   *
+   * @return the output vector.
+   */
+  @NotNull
+  public static Vector rotateVector(@NotNull final Vector vector, final double yawDegrees, final double pitchDegrees,
+                                    @NotNull final Vector out) {
     final var yaw = Math.toRadians(-1.0d * (yawDegrees + 90.0d));
     final var pitch = Math.toRadians(-pitchDegrees);
-    final var cosYaw = StrictMath.cos(yaw);
-    final var cosPitch = StrictMath.cos(pitch);
-    final var sinYaw = StrictMath.sin(yaw);
-    final var sinPitch = StrictMath.sin(pitch);
-    final var initialX = vector.getX() * cosPitch - vector.getY() * sinPitch;
+    final var mode = VectorUtil.trigonometryMode;
+    final var cosYaw = mode.cos(yaw);
+    final var cosPitch = mode.cos(pitch);
+    final var sinYaw = mode.sin(yaw);
+    final var sinPitch = mode.sin(pitch);
+    final var initialX = vector.getX();
     final var initialY = vector.getY();
     final var initialZ = vector.getZ();
     final var x = initialX * cosPitch - initialY * sinPitch;
-    return new Vector(
-      initialZ * sinYaw + x * cosYaw,
-      initialX * sinPitch + initialY * cosPitch,
-      initialZ * cosYaw - x * sinYaw);
+    return out
+      .setX(initialZ * sinYaw + x * cosYaw)
+      .setY(initialX * sinPitch + initialY * cosPitch)
+      .setZ(initialZ * cosYaw - x * sinYaw);
+  }
+
+  /**
+   * sets the trigonometry mode which is used by the rotations.
+   * <p>
+   * the default mode is {@link TrigonometryMode#STRICT}.
+   *
+   * @param mode the mode to set.
+   */
+  public static void setTrigonometryMode(@NotNull final TrigonometryMode mode) {
+    VectorUtil.trigonometryMode = mode;
   }
 }
@@ -0,0 +1,208 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that caches worlds by their names.
+ * <p>
+ * every loaded world is looked up from the server at most once and the cache is updated by the world load and
+ * unload events, so the cache must be registered as a listener, see {@link #register(Plugin)}. names of the worlds
+ * which are not loaded are not cached, so unknown names in the parsed keys do not grow the cache.
+ * lookups are thread-safe, bound actions run on the thread that loads the world.
+ */
+public final class WorldCache implements Listener {
+
+  /**
+   * the actions which wait their worlds.
+   */
+  private final Map<String, List<Consumer<World>>> pending = new HashMap<>();
+
+  /**
+   * the worlds, the worlds which are unloaded after they are cached have empty values.
+   */
+  private final Map<String, Optional<World>> worlds = new ConcurrentHashMap<>();
+
+  /**
+   * creates a cache and registers it as a listener.
+   *
+   * @param plugin the plugin to register.
+   *
+   * @return a new registered cache.
+   */
+  @NotNull
+  public static WorldCache register(@NotNull final Plugin plugin) {
+    final var cache = new WorldCache();
+    Bukkit.getPluginManager().registerEvents(cache, plugin);
+    return cache;
+  }
+
+  /**
+   * binds the given location when its world is loaded.
+   * <p>
+   * the action runs immediately if the world is already loaded.
+   *
+   * @param location the location to bind.
+   * @param action the action to run with the bound location.
+   */
+  public void bind(@NotNull final UnresolvedLocation location, @NotNull final Consumer<Location> action) {
+    this.whenLoaded(location.getWorldName(), world -> action.accept(location.toLocation(world)));
+  }
+
+  /**
+   * finds the world of the given name.
+   *
+   * @param name the name to find.
+   *
+   * @return the world or an empty optional if the world is not loaded.
+   */
+  @NotNull
+  public Optional<World> find(@NotNull final String name) {
+    final var key = WorldCache.key(name);
+    final var cached = this.worlds.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    final var world = Optional.ofNullable(Bukkit.getWorld(name));
+    if (world.isPresent()) {
+      this.worlds.putIfAbsent(key, world);
+    }
+    return world;
+  }
+
+  /**
+   * gets the world of the given name.
+   *
+   * @param name the name to get.
+   *
+   * @return the world or {@code null} if the world is not loaded.
+   */
+  @Nullable
+  public World getWorld(@NotNull final String name) {
+    return this.find(name).orElse(null);
+  }
+
+  /**
+   * clears the cached worlds.
+   * <p>
+   * the actions which wait their worlds are kept.
+   */
+  public void invalidate() {
+    this.worlds.clear();
+  }
+
+  /**
+   * runs when a world is loaded.
+   *
+   * @param event the event to run.
+   */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onWorldLoad(@NotNull final WorldLoadEvent event) {
+    final var world = event.getWorld();
+    final var key = WorldCache.key(world.getName());
+    this.worlds.put(key, Optional.of(world));
+    final List<Consumer<World>> actions;
+    synchronized (this.pending) {
+      actions = this.pending.remove(key);
+    }
+    if (actions != null) {
+      actions.forEach(action -> action.accept(world));
+    }
+  }
+
+  /**
+   * runs when a world is unloaded.
+   *
+   * @param event the event to run.
+   */
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onWorldUnload(@NotNull final WorldUnloadEvent event) {
+    this.worlds.put(WorldCache.key(event.getWorld().getName()), Optional.empty());
+  }
+
+  /**
+   * counts the actions which wait their worlds.
+   *
+   * @return pending action count.
+   */
+  public int pendingCount() {
+    synchronized (this.pending) {
+      return this.pending.values().stream()
+        .mapToInt(List::size)
+        .sum();
+    }
+  }
+
+  /**
+   * runs the given action when the world of the given name is loaded.
+   * <p>
+   * the action runs immediately if the world is already loaded.
+   *
+   * @param name the name of the world.
+   * @param action the action to run.
+   */
+  public void whenLoaded(@NotNull final String name, @NotNull final Consumer<World> action) {
+    final Optional<World> world;
+    synchronized (this.pending) {
+      world = this.find(name);
+      if (world.isEmpty()) {
+        this.pending.computeIfAbsent(WorldCache.key(name), key -> new ArrayList<>()).add(action);
+      }
+    }
+    world.ifPresent(action);
+  }
+
+  /**
+   * converts the given name into the key of the cache.
+   *
+   * @param name the name to convert.
+   *
+   * @return key of the name.
+   */
+  @NotNull
+  private static String key(@NotNull final String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that selects the {@link RotationKernel} of the running jvm.
+ * <p>
+ * the vector api is an incubator module, so it is used only when the server is started with
+ * {@code --add-modules jdk.incubator.vector}.
+ */
+final class RotationKernels {
+
+  /**
+   * the kernel of the running jvm.
+   */
+  static final RotationKernel KERNEL = RotationKernels.load();
+
+  /**
+   * ctor.
+   */
+  private RotationKernels() {
+  }
+
+  /**
+   * loads the kernel.
+   *
+   * @return the vector api kernel if the module is resolved, otherwise the scalar kernel.
+   */
+  @NotNull
+  private static RotationKernel load() {
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+      return VectorRotationKernel.INSTANCE;
+    }
+    return ScalarRotationKernel.INSTANCE;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.bukkitlocation;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an implementation of {@link RotationKernel} that rotates as many points as the preferred vector lanes at a time.
+ * <p>
+ * the operations are in the same order with {@link ScalarRotationKernel}, so both kernels give the same results.
+ */
+enum VectorRotationKernel implements RotationKernel {
+
+  /**
+   * the instance.
+   */
+  INSTANCE;
+
+  /**
+   * the vector species.
+   */
+  private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+  @Override
+  public void apply(@NotNull final Rotation rotation, @NotNull final double[] xs, @NotNull final double[] ys,
+                    @NotNull final double[] zs, final int length) {
+    final var m00 = rotation.getM00();
+    final var m01 = rotation.getM01();
+    final var m02 = rotation.getM02();
+    final var m10 = rotation.getM10();
+    final var m11 = rotation.getM11();
+    final var m12 = rotation.getM12();
+    final var m20 = rotation.getM20();
+    final var m21 = rotation.getM21();
+    final var m22 = rotation.getM22();
+    final var bound = VectorRotationKernel.SPECIES.loopBound(length);
+    var index = 0;
+    for (; index < bound; index += VectorRotationKernel.SPECIES.length()) {
+      final var x = DoubleVector.fromArray(VectorRotationKernel.SPECIES, xs, index);
+      final var y = DoubleVector.fromArray(VectorRotationKernel.SPECIES, ys, index);
+      final var z = DoubleVector.fromArray(VectorRotationKernel.SPECIES, zs, index);
+      x.mul(m00).add(y.mul(m01)).add(z.mul(m02)).intoArray(xs, index);
+      x.mul(m10).add(y.mul(m11)).add(z.mul(m12)).intoArray(ys, index);
+      x.mul(m20).add(y.mul(m21)).add(z.mul(m22)).intoArray(zs, index);
+    }
+    ScalarRotationKernel.apply(rotation, xs, ys, zs, index, length);
+  }
+}
@@ -0,0 +1,38 @@
+package io.github.portlek.bukkitlocation;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+final class BlockKeyTest {
+
+  @Test
+  void of() {
+    final var key = BlockKey.of(-33554432, -2048, 33554431);
+    new Assertion<>(
+      "Couldn't unpack x correctly!",
+      BlockKey.x(key),
+      new IsEqual<>(-33554432)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't unpack y correctly!",
+      BlockKey.y(key),
+      new IsEqual<>(-2048)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't unpack z correctly!",
+      BlockKey.z(key),
+      new IsEqual<>(33554431)
+    ).affirm();
+  }
+
+  @Test
+  void zero() {
+    final var key = BlockKey.of(0, 0, 0);
+    new Assertion<>(
+      "Couldn't pack zero correctly!",
+      key,
+      new IsEqual<>(0L)
+    ).affirm();
+  }
+}
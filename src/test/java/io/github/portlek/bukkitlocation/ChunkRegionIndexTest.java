@@ -0,0 +1,68 @@
+package io.github.portlek.bukkitlocation;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.bukkit.Location;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+final class ChunkRegionIndexTest {
+
+  private static ServerMock serverMock;
+
+  @BeforeAll
+  static void setUp() {
+    ChunkRegionIndexTest.serverMock = MockBukkit.mock();
+    MockBukkit.load(FakePlugin.class);
+    ChunkRegionIndexTest.serverMock.addSimpleWorld("world");
+  }
+
+  @AfterAll
+  static void tearDown() {
+    MockBukkit.unmock();
+  }
+
+  @Test
+  void query() {
+    final var world = ChunkRegionIndexTest.serverMock.getWorld("world");
+    final var random = new Random(42L);
+    final var index = new ChunkRegionIndex(world);
+    final var cuboids = new ArrayList<Cuboid>();
+    for (var i = 0; i < 500; i++) {
+      final var x = random.nextInt(200) - 100;
+      final var y = random.nextInt(50);
+      final var z = random.nextInt(200) - 100;
+      final var cuboid = new Cuboid(
+        new Location(world, x, y, z),
+        new Location(world, x + random.nextInt(40), y + random.nextInt(20), z + random.nextInt(40)));
+      cuboids.add(cuboid);
+      index.insert(cuboid);
+    }
+    for (var i = 0; i < 250; i++) {
+      index.remove(cuboids.remove(random.nextInt(cuboids.size())));
+    }
+    for (var i = 0; i < 200; i++) {
+      final var location = new Location(world, random.nextInt(240) - 120, random.nextInt(70),
+        random.nextInt(240) - 120);
+      final var expected = cuboids.stream()
+        .filter(cuboid -> cuboid.isIn(location))
+        .collect(Collectors.toSet());
+      new Assertion<>(
+        "Couldn't query the cuboids correctly!",
+        index.query(location).stream().collect(Collectors.toSet()),
+        new IsEqual<>(expected)
+      ).affirm();
+      new Assertion<>(
+        "Couldn't check the cuboids correctly!",
+        index.anyContains(location),
+        new IsEqual<>(!expected.isEmpty())
+      ).affirm();
+    }
+  }
+}
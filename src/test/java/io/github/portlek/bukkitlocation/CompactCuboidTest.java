@@ -0,0 +1,62 @@
+package io.github.portlek.bukkitlocation;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import java.util.Optional;
+import java.util.UUID;
+import org.bukkit.Location;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+final class CompactCuboidTest {
+
+  private static ServerMock serverMock;
+
+  @BeforeAll
+  static void setUp() {
+    CompactCuboidTest.serverMock = MockBukkit.mock();
+    MockBukkit.load(FakePlugin.class);
+    CompactCuboidTest.serverMock.addSimpleWorld("world");
+  }
+
+  @AfterAll
+  static void tearDown() {
+    MockBukkit.unmock();
+  }
+
+  @Test
+  void of() {
+    final var world = CompactCuboidTest.serverMock.getWorld("world");
+    final var cuboid = new Cuboid(new Location(world, -3.0d, 0.0d, 5.0d), new Location(world, 2.0d, 4.0d, 9.0d));
+    final var compact = CompactCuboid.of(cuboid);
+    new Assertion<>(
+      "Couldn't calculate volume correctly!",
+      compact.volume(),
+      new IsEqual<>(cuboid.volume())
+    ).affirm();
+    new Assertion<>(
+      "The location is not in the cuboid!",
+      compact.isIn(new Location(world, -2.5d, 4.9d, 9.5d)),
+      new IsTrue()
+    ).affirm();
+    new Assertion<>(
+      "Couldn't convert back to the cuboid!",
+      compact.toCuboid().map(CompactCuboid::of),
+      new IsEqual<>(Optional.of(compact))
+    ).affirm();
+  }
+
+  @Test
+  void unloadedWorld() {
+    final var compact = new CompactCuboid(UUID.randomUUID(), 0, 0, 0, 1, 1, 1);
+    new Assertion<>(
+      "Couldn't handle the unloaded world!",
+      compact.toCuboid().isEmpty(),
+      new IsTrue()
+    ).affirm();
+  }
+}
@@ -0,0 +1,81 @@
+package io.github.portlek.bukkitlocation;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import org.bukkit.Location;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+final class CompositeRegionTest {
+
+  private static ServerMock serverMock;
+
+  @BeforeAll
+  static void setUp() {
+    CompositeRegionTest.serverMock = MockBukkit.mock();
+    MockBukkit.load(FakePlugin.class);
+    CompositeRegionTest.serverMock.addSimpleWorld("world");
+  }
+
+  @AfterAll
+  static void tearDown() {
+    MockBukkit.unmock();
+  }
+
+  @Test
+  void arena() {
+    final var world = CompositeRegionTest.serverMock.getWorld("world");
+    final var box = new Cuboid(new Location(world, 0.0d, 0.0d, 0.0d), new Location(world, 9.0d, 9.0d, 9.0d));
+    final var spectator = new Cuboid(new Location(world, 3.0d, 3.0d, 3.0d), new Location(world, 5.0d, 5.0d, 5.0d));
+    final var balcony = new Cuboid(new Location(world, 12.0d, 0.0d, 0.0d), new Location(world, 13.0d, 1.0d, 1.0d));
+    final var arena = box.subtract(spectator).union(balcony);
+    new Assertion<>(
+      "Couldn't stream blocks of the arena correctly!",
+      arena.blockStream().count(),
+      new IsEqual<>(981L)
+    ).affirm();
+    new Assertion<>(
+      "The location is not in the arena!",
+      arena.isIn(new Location(world, 12.5d, 1.0d, 0.5d)),
+      new IsTrue()
+    ).affirm();
+    new Assertion<>(
+      "The location is in the arena!",
+      arena.isIn(new Location(world, 4.0d, 4.0d, 4.0d)),
+      new IsNot<>(new IsTrue())
+    ).affirm();
+    new Assertion<>(
+      "The block is in the arena!",
+      arena.containsBlock(11, 0, 0),
+      new IsNot<>(new IsTrue())
+    ).affirm();
+  }
+
+  @Test
+  void intersection() {
+    final var world = CompositeRegionTest.serverMock.getWorld("world");
+    final var first = new Cuboid(new Location(world, 0.0d, 0.0d, 0.0d), new Location(world, 2.0d, 2.0d, 2.0d));
+    final var second = new Cuboid(new Location(world, 1.0d, 1.0d, 1.0d), new Location(world, 3.0d, 3.0d, 3.0d));
+    final var far = new Cuboid(new Location(world, 10.0d, 10.0d, 10.0d), new Location(world, 11.0d, 11.0d, 11.0d));
+    new Assertion<>(
+      "Couldn't stream blocks of the intersection correctly!",
+      first.intersect(second).blockStream().count(),
+      new IsEqual<>(8L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't stream blocks of the union without duplicates!",
+      first.union(second).blockStream().count(),
+      new IsEqual<>(46L)
+    ).affirm();
+    new Assertion<>(
+      "Disjoint regions have an intersection!",
+      first.intersect(far).isIn(new Location(world, 1.0d, 1.0d, 1.0d)),
+      new IsNot<>(new IsTrue())
+    ).affirm();
+  }
+}
@@ -0,0 +1,101 @@
+package io.github.portlek.bukkitlocation;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+final class CuboidJobTest {
+
+  private static FakePlugin plugin;
+
+  private static ServerMock serverMock;
+
+  @BeforeAll
+  static void setUp() {
+    CuboidJobTest.serverMock = MockBukkit.mock();
+    CuboidJobTest.plugin = MockBukkit.load(FakePlugin.class);
+    CuboidJobTest.serverMock.addSimpleWorld("world");
+  }
+
+  @AfterAll
+  static void tearDown() {
+    MockBukkit.unmock();
+  }
+
+  @Test
+  void cancel() {
+    final var world = CuboidJobTest.serverMock.getWorld("world");
+    final var cuboid = new Cuboid(new Location(world, 0.0d, 10.0d, 0.0d), new Location(world, 9.0d, 13.0d, 9.0d));
+    final var job = CuboidJob.set(CuboidJobTest.plugin, cuboid, TickBudget.blocks(100), Material.STONE, false);
+    final var future = job.start();
+    CuboidJobTest.serverMock.getScheduler().performTicks(2L);
+    job.cancel();
+    CuboidJobTest.serverMock.getScheduler().performTicks(10L);
+    new Assertion<>(
+      "Couldn't cancel the job!",
+      future.isCancelled(),
+      new IsTrue()
+    ).affirm();
+    new Assertion<>(
+      "The job worked after cancellation!",
+      job.getProcessed() < cuboid.volume(),
+      new IsTrue()
+    ).affirm();
+  }
+
+  @Test
+  void failure() {
+    final var world = CuboidJobTest.serverMock.getWorld("world");
+    final var cuboid = new Cuboid(new Location(world, 0.0d, 30.0d, 0.0d), new Location(world, 9.0d, 33.0d, 9.0d));
+    final var calls = new AtomicInteger();
+    final var future = new CuboidJob(CuboidJobTest.plugin, cuboid, TickBudget.blocks(100), block -> {
+      calls.incrementAndGet();
+      throw new IllegalStateException("Failed!");
+    }).start();
+    CuboidJobTest.serverMock.getScheduler().performTicks(10L);
+    new Assertion<>(
+      "Couldn't complete the future exceptionally!",
+      future.isCompletedExceptionally(),
+      new IsTrue()
+    ).affirm();
+    new Assertion<>(
+      "Couldn't stop the task after the failure!",
+      calls.get(),
+      new IsEqual<>(1)
+    ).affirm();
+  }
+
+  @Test
+  void set() throws Exception {
+    final var world = CuboidJobTest.serverMock.getWorld("world");
+    final var cuboid = new Cuboid(new Location(world, -2.0d, 20.0d, -2.0d), new Location(world, 17.0d, 23.0d, 1.0d));
+    final var ticks = new AtomicInteger();
+    final var future = CuboidJob.set(CuboidJobTest.plugin, cuboid, TickBudget.blocks(100), Material.STONE, false)
+      .onProgress(job -> ticks.incrementAndGet())
+      .start();
+    CuboidJobTest.serverMock.getScheduler().performTicks(10L);
+    new Assertion<>(
+      "Couldn't count changed blocks correctly!",
+      future.get(),
+      new IsEqual<>(320L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't split the job into ticks!",
+      ticks.get(),
+      new IsEqual<>(4)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't set blocks!",
+      cuboid.blockStream().allMatch(block -> block.getType() == Material.STONE),
+      new IsTrue()
+    ).affirm();
+  }
+}
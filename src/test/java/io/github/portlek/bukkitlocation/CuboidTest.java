@@ -2,6 +2,7 @@ package io.github.portlek.bukkitlocation;
 
 import be.seeseemelk.mockbukkit.MockBukkit;
 import be.seeseemelk.mockbukkit.ServerMock;
+import java.util.stream.Collectors;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.hamcrest.core.IsEqual;
@@ -42,6 +43,43 @@ final class CuboidTest {
     ).affirm();
   }
 
+  @Test
+  void blockKeys() {
+    final var world = CuboidTest.serverMock.getWorld("world");
+    final var min = new Location(world, -1.0d, 0.0d, -1.0d);
+    final var max = new Location(world, 1.0d, 2.0d, 1.0d);
+    final var cuboid = new Cuboid(min, max);
+    final var keys = cuboid.blockKeys();
+    new Assertion<>(
+      "Couldn't calculate block keys correctly!",
+      keys.size(),
+      new IsEqual<>(27)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't find the block key!",
+      keys.contains(BlockKey.of(-1, 2, 1)),
+      new IsTrue()
+    ).affirm();
+  }
+
+  @Test
+  void blockStream() {
+    final var world = CuboidTest.serverMock.getWorld("world");
+    final var min = new Location(world, 0.0d, 0.0d, 0.0d);
+    final var max = new Location(world, 3.0d, 1.0d, 2.0d);
+    final var cuboid = new Cuboid(min, max);
+    new Assertion<>(
+      "Couldn't stream blocks correctly!",
+      cuboid.blockStream().count(),
+      new IsEqual<>(24L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't stop streaming blocks early!",
+      cuboid.blockStream().limit(3L).count(),
+      new IsEqual<>(3L)
+    ).affirm();
+  }
+
   @Test
   void center() {
     final var world = CuboidTest.serverMock.getWorld("world");
@@ -79,6 +117,11 @@ final class CuboidTest {
       cuboid.isIn(new Location(world, 1.0d, 1.0d, 1.0d)),
       new IsTrue()
     ).affirm();
+    new Assertion<>(
+      "The location of the other world is in the cuboid!",
+      cuboid.isIn(new Location(CuboidTest.serverMock.addSimpleWorld("other"), 1.0d, 1.0d, 1.0d)),
+      new IsNot<>(new IsTrue())
+    ).affirm();
   }
 
   @Test
@@ -94,6 +137,29 @@ final class CuboidTest {
     ).affirm();
   }
 
+  @Test
+  void locationIterator() {
+    final var world = CuboidTest.serverMock.getWorld("world");
+    final var min = new Location(world, 0.0d, 0.0d, 0.0d);
+    final var max = new Location(world, 1.0d, 2.0d, 3.0d);
+    final var cuboid = new Cuboid(min, max);
+    final var iterator = cuboid.locationIterator();
+    new Assertion<>(
+      "Couldn't iterate the first location correctly!",
+      iterator.next(),
+      new IsEqual<>(min)
+    ).affirm();
+    var last = min;
+    while (iterator.hasNext()) {
+      last = iterator.next();
+    }
+    new Assertion<>(
+      "Couldn't iterate the last location correctly!",
+      last,
+      new IsEqual<>(max)
+    ).affirm();
+  }
+
   @Test
   void maxMin() {
     final var world = CuboidTest.serverMock.getWorld("world");
@@ -126,6 +192,30 @@ final class CuboidTest {
     ).affirm();
   }
 
+  @Test
+  void randomBlocksWithoutDuplicates() {
+    final var world = CuboidTest.serverMock.getWorld("world");
+    final var min = new Location(world, 0.0d, 0.0d, 0.0d);
+    final var max = new Location(world, 2.0d, 2.0d, 2.0d);
+    final var cuboid = new Cuboid(min, max);
+    final var blocks = cuboid.randomBlocks(20, false);
+    new Assertion<>(
+      "Blocks are duplicated!",
+      blocks.stream().map(BlockKey::of).collect(Collectors.toSet()).size(),
+      new IsEqual<>(20)
+    ).affirm();
+    new Assertion<>(
+      "Blocks are not in the cuboid!",
+      blocks.stream().allMatch(block -> cuboid.isIn(block.getLocation())),
+      new IsTrue()
+    ).affirm();
+    new Assertion<>(
+      "Couldn't get all blocks!",
+      cuboid.randomBlocks(30, false).size(),
+      new IsEqual<>(27)
+    ).affirm();
+  }
+
   @Test
   void randomLocations() {
     final var world = CuboidTest.serverMock.getWorld("world");
@@ -169,4 +259,50 @@ final class CuboidTest {
       new IsNot<>(new IsTrue())
     ).affirm();
   }
+
+  @Test
+  void setWithoutPhysics() {
+    final var world = CuboidTest.serverMock.getWorld("world");
+    final var min = new Location(world, -2.0d, 0.0d, -2.0d);
+    final var max = new Location(world, 17.0d, 3.0d, 1.0d);
+    final var cuboid = new Cuboid(min, max);
+    new Assertion<>(
+      "Couldn't count changed blocks correctly!",
+      cuboid.set(Material.STONE, false),
+      new IsEqual<>(320L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't set blocks across chunks!",
+      cuboid.blockStream().allMatch(block -> block.getType() == Material.STONE),
+      new IsTrue()
+    ).affirm();
+    new Assertion<>(
+      "Couldn't skip unchanged blocks!",
+      cuboid.set(Material.STONE, false),
+      new IsEqual<>(0L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't count removed blocks correctly!",
+      cuboid.removeAll(false),
+      new IsEqual<>(320L)
+    ).affirm();
+  }
+
+  @Test
+  void volume() {
+    final var world = CuboidTest.serverMock.getWorld("world");
+    final var min = new Location(world, 0.0d, 0.0d, 0.0d);
+    final var max = new Location(world, 1.0d, 2.0d, 3.0d);
+    final var cuboid = new Cuboid(min, max);
+    new Assertion<>(
+      "Couldn't calculate volume correctly!",
+      cuboid.volume(),
+      new IsEqual<>(24L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't calculate location size correctly!",
+      cuboid.locations().size(),
+      new IsEqual<>(24)
+    ).affirm();
+  }
 }
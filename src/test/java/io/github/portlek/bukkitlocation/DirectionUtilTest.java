@@ -2,7 +2,10 @@ package io.github.portlek.bukkitlocation;
 
 import be.seeseemelk.mockbukkit.MockBukkit;
 import be.seeseemelk.mockbukkit.ServerMock;
+import java.util.Arrays;
+import java.util.List;
 import org.bukkit.Location;
+import org.bukkit.block.BlockFace;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -26,6 +29,20 @@ final class DirectionUtilTest {
     MockBukkit.unmock();
   }
 
+  @Test
+  void blockFaceOf() {
+    new Assertion<>(
+      "Couldn't get block face correctly!",
+      DirectionUtil.blockFaceOf(-157.5f, 16),
+      new IsEqual<>(BlockFace.NORTH_NORTH_EAST)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't get block face correctly!",
+      DirectionUtil.blockFaceOf(100.0f, 4),
+      new IsEqual<>(BlockFace.WEST)
+    ).affirm();
+  }
+
   @Test
   void directionOf() {
     final var directions = DirectionUtil.directionOf(100.0f);
@@ -36,6 +53,22 @@ final class DirectionUtilTest {
     ).affirm();
   }
 
+  @Test
+  void directionsOf() {
+    final var out = new Directions[4];
+    final var count = DirectionUtil.directionsOf(new float[]{0.0f, 100.0f, -180.0f}, out);
+    new Assertion<>(
+      "Couldn't fill directions correctly!",
+      Arrays.asList(out),
+      new IsEqual<>(Arrays.asList(Directions.SOUTH, Directions.WEST, Directions.NORTH, null))
+    ).affirm();
+    new Assertion<>(
+      "Couldn't count filled directions!",
+      count,
+      new IsEqual<>(3)
+    ).affirm();
+  }
+
   @Test
   void doubleDirectionOf() {
     final var directions = DirectionUtil.doubleDirectionOf(100.0f);
@@ -46,6 +79,59 @@ final class DirectionUtilTest {
     ).affirm();
   }
 
+  @Test
+  void doubleDirectionsOf() {
+    final var location = new Location(DirectionUtilTest.serverMock.getWorld("world"), 100.0d, 100.0d, 100.0d, -45.0f, 0.0f);
+    final var player = DirectionUtilTest.serverMock.getPlayer("player");
+    assert player != null;
+    player.teleport(location);
+    final var out = new Directions[1];
+    DirectionUtil.doubleDirectionsOf(List.of(player), out);
+    new Assertion<>(
+      "Couldn't fill directions of the entities correctly!",
+      out[0],
+      new IsEqual<>(Directions.SOUTHEAST)
+    ).affirm();
+  }
+
+  @Test
+  void negativeYaw() {
+    new Assertion<>(
+      "Couldn't wrap the negative yaw!",
+      DirectionUtil.directionOf(-90.0f),
+      new IsEqual<>(Directions.EAST)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't wrap the negative yaw!",
+      DirectionUtil.doubleDirectionOf(-135.0f),
+      new IsEqual<>(Directions.NORTHEAST)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't wrap the negative yaw!",
+      DirectionUtil.directionOf(-10.0f),
+      new IsEqual<>(Directions.SOUTH)
+    ).affirm();
+  }
+
+  @Test
+  void sectorOf() {
+    new Assertion<>(
+      "Couldn't quantize the yaw!",
+      DirectionUtil.sectorOf(354.5f, 32),
+      new IsEqual<>(0)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't quantize the yaw!",
+      DirectionUtil.sectorOf(-5.7f, 32),
+      new IsEqual<>(31)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't quantize the yaw!",
+      DirectionUtil.sectorOf(450.0f, 4),
+      new IsEqual<>(1)
+    ).affirm();
+  }
+
   @Test
   void testDirectionOf() {
     final var location = new Location(DirectionUtilTest.serverMock.getWorld("world"), 100.0d, 100.0d, 100.0d, 100.0f, 50.0f);
@@ -0,0 +1,105 @@
+package io.github.portlek.bukkitlocation;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+final class LocationCodecTest {
+
+  private static LocationCodec codec;
+
+  private static ServerMock serverMock;
+
+  private static World world;
+
+  @BeforeAll
+  static void setUp() {
+    LocationCodecTest.serverMock = MockBukkit.mock();
+    MockBukkit.load(FakePlugin.class);
+    LocationCodecTest.serverMock.addSimpleWorld("world");
+    LocationCodecTest.world = LocationCodecTest.serverMock.getWorld("world");
+    LocationCodecTest.codec = new LocationCodec(ignored -> 0, id -> id == 0 ? LocationCodecTest.world : null);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    MockBukkit.unmock();
+  }
+
+  @Test
+  void decode() {
+    final var locations = List.of(
+      new Location(LocationCodecTest.world, 1.0d, 64.0d, -30_000_000.0d),
+      new Location(LocationCodecTest.world, 1.25d, 64.5d, -3.75d),
+      new Location(LocationCodecTest.world, -0.0d, 0.0d, 0.0d, 90.0f, -45.5f));
+    final var buffer = ByteBuffer.allocate(LocationCodecTest.codec.size(locations));
+    LocationCodecTest.codec.encode(locations, buffer);
+    new Assertion<>(
+      "Couldn't fill the buffer exactly!",
+      buffer.remaining(),
+      new IsEqual<>(0)
+    ).affirm();
+    buffer.flip();
+    final var reused = new ArrayList<Location>();
+    final var first = new Location(null, 0.0d, 0.0d, 0.0d);
+    reused.add(first);
+    LocationCodecTest.codec.decode(buffer, reused);
+    new Assertion<>(
+      "Couldn't decode the locations!",
+      reused,
+      new IsEqual<>(locations)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't reuse the location!",
+      reused.get(0),
+      new IsSame<>(first)
+    ).affirm();
+  }
+
+  @Test
+  void size() {
+    new Assertion<>(
+      "Couldn't encode the block location compactly!",
+      LocationCodecTest.codec.size(new Location(LocationCodecTest.world, 10.0d, 64.0d, -10.0d)),
+      new IsEqual<>(13)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't encode the precise location!",
+      LocationCodecTest.codec.size(new Location(LocationCodecTest.world, 10.5d, 64.0d, -10.0d)),
+      new IsEqual<>(25)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't encode the rotated location!",
+      LocationCodecTest.codec.size(new Location(LocationCodecTest.world, 10.5d, 64.0d, -10.0d, 1.0f, 0.0f)),
+      new IsEqual<>(33)
+    ).affirm();
+  }
+
+  @Test
+  void write() {
+    final var location = new Location(LocationCodecTest.world, 10.5d, 64.0d, -10.0d, 180.0f, 12.0f);
+    final var buffer = ByteBuffer.allocate(64);
+    LocationCodecTest.codec.write(location, buffer);
+    new Assertion<>(
+      "Couldn't write the location exactly!",
+      buffer.position(),
+      new IsEqual<>(LocationCodecTest.codec.size(location))
+    ).affirm();
+    buffer.flip();
+    new Assertion<>(
+      "Couldn't read the location!",
+      LocationCodecTest.codec.read(buffer),
+      new IsEqual<>(location)
+    ).affirm();
+  }
+}
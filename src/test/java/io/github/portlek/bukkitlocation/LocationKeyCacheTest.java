@@ -0,0 +1,123 @@
+package io.github.portlek.bukkitlocation;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import java.util.Optional;
+import org.bukkit.Location;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+final class LocationKeyCacheTest {
+
+  private static ServerMock serverMock;
+
+  @BeforeAll
+  static void setUp() {
+    LocationKeyCacheTest.serverMock = MockBukkit.mock();
+    MockBukkit.load(FakePlugin.class);
+    LocationKeyCacheTest.serverMock.addSimpleWorld("world");
+  }
+
+  @AfterAll
+  static void tearDown() {
+    MockBukkit.unmock();
+  }
+
+  @Test
+  void evict() {
+    final var cache = new LocationKeyCache(16);
+    for (var index = 0; index < 1_000; index++) {
+      cache.fromKey("world/" + index + "_00,0_00,0_00");
+    }
+    new Assertion<>(
+      "Couldn't bound the cache!",
+      cache.size() <= 16,
+      new IsTrue()
+    ).affirm();
+  }
+
+  @Test
+  void maximumSize() {
+    for (final var maximumSize : new int[]{1, 4, 31}) {
+      final var cache = new LocationKeyCache(maximumSize);
+      for (var index = 0; index < 1_000; index++) {
+        cache.fromKey("world/" + index + "_00,0_00,0_00");
+      }
+      new Assertion<>(
+        "Couldn't honor the maximum size!",
+        cache.size(),
+        new IsEqual<>(maximumSize)
+      ).affirm();
+    }
+  }
+
+  @Test
+  void smallMaximumSize() {
+    for (var maximumSize = 1; maximumSize < 20; maximumSize++) {
+      final var cache = new LocationKeyCache(maximumSize);
+      for (var index = 0; index < 100; index++) {
+        final var key = "world/" + index + "_00,0_00,0_00";
+        cache.fromKey(key);
+        cache.fromKey(key);
+      }
+      new Assertion<>(
+        "Couldn't cache every key!",
+        cache.hitCount(),
+        new IsEqual<>(100L)
+      ).affirm();
+    }
+  }
+
+  @Test
+  void fromKey() {
+    final var cache = new LocationKeyCache(128);
+    final var expected = new Location(LocationKeyCacheTest.serverMock.getWorld("world"), 1.0d, 2.0d, 3.0d);
+    final var first = cache.fromKey("world/1_00,2_00,3_00").orElseThrow();
+    first.setX(100.0d);
+    final var second = cache.fromKey("world/1_00,2_00,3_00");
+    new Assertion<>(
+      "Couldn't return a defensive copy!",
+      second,
+      new IsEqual<>(Optional.of(expected))
+    ).affirm();
+    new Assertion<>(
+      "Couldn't count the hit!",
+      cache.hitCount(),
+      new IsEqual<>(1L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't count the miss!",
+      cache.missCount(),
+      new IsEqual<>(1L)
+    ).affirm();
+  }
+
+  @Test
+  void toKey() {
+    final var cache = new LocationKeyCache(128);
+    final var location = new Location(LocationKeyCacheTest.serverMock.getWorld("world"), 1.0d, 2.0d, 3.0d);
+    final var first = cache.toKey(location);
+    new Assertion<>(
+      "Couldn't return the cached key!",
+      cache.toKey(location),
+      new IsSame<>(first)
+    ).affirm();
+    location.setY(5.0d);
+    new Assertion<>(
+      "Couldn't notice the modified location!",
+      cache.toKey(location),
+      new IsNot<>(new IsEqual<>(first))
+    ).affirm();
+    new Assertion<>(
+      "Couldn't format like the location util!",
+      cache.toKey(location),
+      new IsEqual<>(LocationUtil.toKey(location))
+    ).affirm();
+  }
+}
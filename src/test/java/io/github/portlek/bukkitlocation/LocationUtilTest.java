@@ -2,8 +2,12 @@ package io.github.portlek.bukkitlocation;
 
 import be.seeseemelk.mockbukkit.MockBukkit;
 import be.seeseemelk.mockbukkit.ServerMock;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Random;
+import java.util.regex.Pattern;
 import org.bukkit.Location;
+import org.bukkit.util.NumberConversions;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.junit.jupiter.api.AfterAll;
@@ -14,6 +18,9 @@ import org.llorllale.cactoos.matchers.IsTrue;
 
 final class LocationUtilTest {
 
+  private static final Pattern LEGACY_PATTERN =
+    Pattern.compile("(?<world>[^/]+):(?<x>[\\-0-9.]+),(?<y>[\\-0-9.]+),(?<z>[\\-0-9.]+)(:(?<yaw>[\\-0-9.]+):(?<pitch>[\\-0-9.]+))?");
+
   private static ServerMock serverMock;
 
   @BeforeAll
@@ -28,6 +35,17 @@ final class LocationUtilTest {
     MockBukkit.unmock();
   }
 
+  @Test
+  void appendKey() {
+    final var location = new Location(LocationUtilTest.serverMock.getWorld("world"), -1.005d, 64.0d, 0.125d, 90.0f, -12.5f);
+    final var builder = new StringBuilder("key=");
+    new Assertion<>(
+      "Couldn't append the key of the location!",
+      LocationUtil.appendKey(builder, location).toString(),
+      new IsEqual<>("key=" + LocationUtilTest.legacyToKey(location))
+    ).affirm();
+  }
+
   @Test
   void centeredIn() {
     final var location = new Location(LocationUtilTest.serverMock.getWorld("world"), 100.0d, 100.0d, 100.0d);
@@ -79,6 +97,31 @@ final class LocationUtilTest {
     ).affirm();
   }
 
+  @Test
+  void keyCompatibility() {
+    final var world = LocationUtilTest.serverMock.getWorld("world");
+    final var random = new Random(42L);
+    for (var index = 0; index < 10_000; index++) {
+      final var location = new Location(world,
+        (random.nextDouble() - 0.5d) * 6.0e7d,
+        random.nextInt(25600) / 100.0d,
+        random.nextInt(2001) / 200.0d - 5.0d,
+        random.nextBoolean() ? 0.0f : (random.nextFloat() - 0.5f) * 360.0f,
+        random.nextBoolean() ? 0.0f : (random.nextFloat() - 0.5f) * 180.0f);
+      final var key = LocationUtil.toKey(location);
+      new Assertion<>(
+        "The key is not compatible with the legacy format!",
+        key,
+        new IsEqual<>(LocationUtilTest.legacyToKey(location))
+      ).affirm();
+      new Assertion<>(
+        "The key is not parsed like the legacy parser!",
+        LocationUtil.fromKey(key),
+        new IsEqual<>(LocationUtilTest.legacyFromKey(key))
+      ).affirm();
+    }
+  }
+
   @Test
   void toKey() {
     final var location = new Location(LocationUtilTest.serverMock.getWorld("world"), 100.0d, 100.0d, 100.0d);
@@ -90,6 +133,15 @@ final class LocationUtilTest {
     ).affirm();
   }
 
+  @Test
+  void unresolvedFromKey() {
+    new Assertion<>(
+      "Couldn't parse the key without the world!",
+      LocationUtil.unresolvedFromKey("other_world/1_50,64_00,-2_25/90_00/0_00"),
+      new IsEqual<>(Optional.of(new UnresolvedLocation("other.world", 1.5d, 64.0d, -2.25d, 90.0f, 0.0f)))
+    ).affirm();
+  }
+
   @Test
   void validWorld() {
     final var expected = LocationUtilTest.serverMock.getWorld("world");
@@ -100,4 +152,34 @@ final class LocationUtilTest {
       new IsEqual<>(expected)
     ).affirm();
   }
+
+  private static Optional<Location> legacyFromKey(final String key) {
+    final var match = LocationUtilTest.LEGACY_PATTERN.matcher(key
+      .replace("_", ".")
+      .replace("/", ":"));
+    if (!match.matches()) {
+      return Optional.empty();
+    }
+    final var yaw = Optional.ofNullable(match.group("yaw"))
+      .map(NumberConversions::toFloat)
+      .orElse(0.0f);
+    final var pitch = Optional.ofNullable(match.group("pitch"))
+      .map(NumberConversions::toFloat)
+      .orElse(0.0f);
+    return Optional.of(new Location(LocationUtilTest.serverMock.getWorld(match.group("world")),
+      NumberConversions.toDouble(match.group("x")),
+      NumberConversions.toDouble(match.group("y")),
+      NumberConversions.toDouble(match.group("z")),
+      yaw,
+      pitch));
+  }
+
+  private static String legacyToKey(final Location location) {
+    var s = LocationUtil.validWorld(location).getName() + ':';
+    s += String.format(Locale.ENGLISH, "%.2f,%.2f,%.2f", location.getX(), location.getY(), location.getZ());
+    if (location.getYaw() != 0.0f || location.getPitch() != 0.0f) {
+      s += String.format(Locale.ENGLISH, ":%.2f:%.2f", location.getYaw(), location.getPitch());
+    }
+    return s.replace(":", "/").replace(".", "_");
+  }
 }
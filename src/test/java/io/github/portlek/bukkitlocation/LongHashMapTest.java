@@ -0,0 +1,44 @@
+package io.github.portlek.bukkitlocation;
+
+import java.util.HashMap;
+import java.util.Random;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+final class LongHashMapTest {
+
+  @Test
+  void putAndRemove() {
+    final var random = new Random(42L);
+    final var expected = new HashMap<Long, Integer>();
+    final var map = new LongHashMap<Integer>();
+    for (var index = 0; index < 100_000; index++) {
+      final var key = BlockKey.of(random.nextInt(64) - 32, random.nextInt(64), random.nextInt(64) - 32);
+      if (random.nextBoolean()) {
+        new Assertion<>(
+          "Couldn't put the value correctly!",
+          map.put(key, index),
+          new IsEqual<>(expected.put(key, index))
+        ).affirm();
+      } else {
+        new Assertion<>(
+          "Couldn't remove the value correctly!",
+          map.remove(key),
+          new IsEqual<>(expected.remove(key))
+        ).affirm();
+      }
+    }
+    new Assertion<>(
+      "Couldn't calculate the size correctly!",
+      map.size(),
+      new IsEqual<>(expected.size())
+    ).affirm();
+    expected.forEach((key, value) ->
+      new Assertion<>(
+        "The map lost a value!",
+        map.get(key),
+        new IsEqual<>(value)
+      ).affirm());
+  }
+}
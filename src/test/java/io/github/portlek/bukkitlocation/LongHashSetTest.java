@@ -0,0 +1,62 @@
+package io.github.portlek.bukkitlocation;
+
+import java.util.HashSet;
+import java.util.Random;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+final class LongHashSetTest {
+
+  @Test
+  void addAndRemove() {
+    final var random = new Random(42L);
+    final var expected = new HashSet<Long>();
+    final var set = new LongHashSet();
+    for (var index = 0; index < 100_000; index++) {
+      final var key = BlockKey.of(random.nextInt(64) - 32, random.nextInt(64), random.nextInt(64) - 32);
+      if (random.nextBoolean()) {
+        new Assertion<>(
+          "Couldn't add the key correctly!",
+          set.add(key),
+          new IsEqual<>(expected.add(key))
+        ).affirm();
+      } else {
+        new Assertion<>(
+          "Couldn't remove the key correctly!",
+          set.remove(key),
+          new IsEqual<>(expected.remove(key))
+        ).affirm();
+      }
+    }
+    new Assertion<>(
+      "Couldn't calculate the size correctly!",
+      set.size(),
+      new IsEqual<>(expected.size())
+    ).affirm();
+    new Assertion<>(
+      "The set lost a key!",
+      expected.stream().allMatch(set::contains),
+      new IsTrue()
+    ).affirm();
+  }
+
+  @Test
+  void zero() {
+    final var set = new LongHashSet();
+    set.add(0L);
+    new Assertion<>(
+      "Couldn't add the zero key!",
+      set.contains(0L),
+      new IsTrue()
+    ).affirm();
+    set.remove(0L);
+    new Assertion<>(
+      "Couldn't remove the zero key!",
+      set.contains(0L),
+      new IsNot<>(new IsTrue())
+    ).affirm();
+  }
+}
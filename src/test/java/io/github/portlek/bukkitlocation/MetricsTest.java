@@ -0,0 +1,184 @@
+package io.github.portlek.bukkitlocation;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+final class MetricsTest {
+
+  private static FakePlugin plugin;
+
+  private static ServerMock serverMock;
+
+  @BeforeAll
+  static void setUp() {
+    MetricsTest.serverMock = MockBukkit.mock();
+    MetricsTest.plugin = MockBukkit.load(FakePlugin.class);
+    MetricsTest.serverMock.addSimpleWorld("world");
+  }
+
+  @AfterAll
+  static void tearDown() {
+    Metrics.setRecorder(MetricsRecorder.noop());
+    MockBukkit.unmock();
+  }
+
+  @Test
+  void attribute() {
+    final var recorder = new HistogramMetricsRecorder();
+    Metrics.setRecorder(recorder);
+    final var world = MetricsTest.serverMock.getWorld("world");
+    final var cuboid = new Cuboid(new Location(world, 0.0d, 5.0d, 0.0d), new Location(world, 1.0d, 6.0d, 1.0d));
+    cuboid.blocks();
+    try (final var scope = Metrics.attribute(MetricsTest.plugin)) {
+      cuboid.set(Material.STONE, false);
+    }
+    cuboid.removeAll(false);
+    Metrics.setRecorder(MetricsRecorder.noop());
+    new Assertion<>(
+      "Couldn't attribute the operation to the plugin!",
+      recorder.histogram(MetricsTest.plugin.getName(), MetricsOperation.CUBOID_SET)
+        .map(LatencyHistogram::elements),
+      new IsEqual<>(Optional.of(8L))
+    ).affirm();
+    new Assertion<>(
+      "Couldn't close the attribution scope!",
+      recorder.histogram(MetricsTest.plugin.getName(), MetricsOperation.CUBOID_REMOVE_ALL)
+        .map(LatencyHistogram::count),
+      new IsEqual<>(Optional.of(0L))
+    ).affirm();
+    new Assertion<>(
+      "Couldn't count the operations of all plugins!",
+      recorder.histogram(MetricsOperation.CUBOID_BLOCKS).count() +
+        recorder.histogram(MetricsOperation.CUBOID_SET).count() +
+        recorder.histogram(MetricsOperation.CUBOID_REMOVE_ALL).count(),
+      new IsEqual<>(3L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't list the attributed plugins!",
+      recorder.plugins(),
+      new IsEqual<>(Set.of(MetricsTest.plugin.getName()))
+    ).affirm();
+  }
+
+  @Test
+  void cuboidOperations() {
+    final var recorder = new HistogramMetricsRecorder();
+    Metrics.setRecorder(recorder);
+    final var world = MetricsTest.serverMock.getWorld("world");
+    final var cuboid = new Cuboid(new Location(world, 0.0d, 0.0d, 0.0d), new Location(world, 1.0d, 1.0d, 1.0d));
+    cuboid.set(Material.STONE, false);
+    cuboid.removeAll(false);
+    cuboid.blocks();
+    cuboid.randomLocations(3, false, RandomSource.seeded(1L));
+    Metrics.setRecorder(MetricsRecorder.noop());
+    new Assertion<>(
+      "Couldn't record the changed blocks of the set!",
+      recorder.histogram(MetricsOperation.CUBOID_SET).elements(),
+      new IsEqual<>(8L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't record the remove all apart from the set!",
+      recorder.histogram(MetricsOperation.CUBOID_REMOVE_ALL).count(),
+      new IsEqual<>(1L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't record the blocks!",
+      recorder.histogram(MetricsOperation.CUBOID_BLOCKS).elements(),
+      new IsEqual<>(8L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't record the random locations!",
+      recorder.histogram(MetricsOperation.CUBOID_RANDOM_LOCATIONS).elements(),
+      new IsEqual<>(3L)
+    ).affirm();
+  }
+
+  @Test
+  void histogram() {
+    final var histogram = new LatencyHistogram();
+    for (final var nanos : new long[]{10L, 20L, 30L, 40L, 5_000L}) {
+      histogram.record(nanos, 2L);
+    }
+    new Assertion<>(
+      "Couldn't count the operations!",
+      histogram.count(),
+      new IsEqual<>(5L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't sum the elements!",
+      histogram.elements(),
+      new IsEqual<>(10L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't calculate the mean latency!",
+      histogram.meanNanos(),
+      new IsEqual<>(1_020.0d)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't bound the median latency!",
+      histogram.percentile(0.5d),
+      new IsEqual<>(31L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't bound the highest latency!",
+      histogram.percentile(1.0d),
+      new IsEqual<>(5_000L)
+    ).affirm();
+    histogram.reset();
+    new Assertion<>(
+      "Couldn't reset the histogram!",
+      histogram.count() == 0L && histogram.percentile(0.99d) == 0L,
+      new IsTrue()
+    ).affirm();
+  }
+
+  @Test
+  void keyOperations() {
+    final var recorder = new HistogramMetricsRecorder();
+    Metrics.setRecorder(recorder);
+    final var key = LocationUtil.toKey(new Location(MetricsTest.serverMock.getWorld("world"), 1.0d, 2.0d, 3.0d));
+    LocationUtil.fromKey(key);
+    RandomUtil.chooseRandoms(List.of(1, 2, 3), 2, false, RandomSource.seeded(1L));
+    Metrics.setRecorder(MetricsRecorder.noop());
+    new Assertion<>(
+      "Couldn't record the key format!",
+      recorder.histogram(MetricsOperation.KEY_FORMAT).elements(),
+      new IsEqual<>((long) key.length())
+    ).affirm();
+    new Assertion<>(
+      "Couldn't record the key parse!",
+      recorder.histogram(MetricsOperation.KEY_PARSE).count(),
+      new IsEqual<>(1L)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't record the random choose!",
+      recorder.histogram(MetricsOperation.RANDOM_CHOOSE).elements(),
+      new IsEqual<>(2L)
+    ).affirm();
+  }
+
+  @Test
+  void noop() {
+    new Assertion<>(
+      "The metrics are enabled by default!",
+      Metrics.isEnabled(),
+      new IsEqual<>(false)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't skip timing while the metrics are disabled!",
+      Metrics.start(),
+      new IsEqual<>(Long.MIN_VALUE)
+    ).affirm();
+  }
+}
@@ -0,0 +1,95 @@
+package io.github.portlek.bukkitlocation;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import java.util.ArrayList;
+import java.util.List;
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+final class ParticleShapeTest {
+
+  private static ServerMock serverMock;
+
+  @BeforeAll
+  static void setUp() {
+    ParticleShapeTest.serverMock = MockBukkit.mock();
+    MockBukkit.load(FakePlugin.class);
+    ParticleShapeTest.serverMock.addSimpleWorld("world");
+  }
+
+  @AfterAll
+  static void tearDown() {
+    MockBukkit.unmock();
+  }
+
+  @Test
+  void circle() {
+    final var shape = ParticleShape.circle(2.0d, 36);
+    new Assertion<>(
+      "Couldn't cache the shape!",
+      ParticleShape.circle(2.0d, 36),
+      new IsSame<>(shape)
+    ).affirm();
+    final var points = shape.copyPoints();
+    var onCircle = true;
+    for (var offset = 0; offset < points.length; offset += 3) {
+      onCircle &= Math.abs(Math.hypot(points[offset], points[offset + 2]) - 2.0d) < 1.0e-9d && points[offset + 1] == 0.0d;
+    }
+    new Assertion<>(
+      "Couldn't place the points on the circle!",
+      onCircle && shape.size() == 36,
+      new IsTrue()
+    ).affirm();
+  }
+
+  @Test
+  void forEach() {
+    final var origin = new Location(ParticleShapeTest.serverMock.getWorld("world"), 10.0d, 64.0d, -10.0d, 45.0f, 30.0f);
+    final var shape = ParticleShape.polygon(1.5d, 5, 4);
+    final List<Vector> points = new ArrayList<>();
+    shape.forEach(origin, (x, y, z) -> points.add(new Vector(x, y, z)));
+    final var source = shape.copyPoints();
+    var matches = points.size() == shape.size();
+    for (var index = 0; index < points.size(); index++) {
+      final var point = new Vector(source[index * 3], source[index * 3 + 1], source[index * 3 + 2]);
+      final var expected = VectorUtil.rotateVector(point, origin).add(origin.toVector());
+      matches &= expected.distance(points.get(index)) < 1.0e-9d &&
+        Math.abs(points.get(index).distance(origin.toVector()) - point.length()) < 1.0e-9d;
+    }
+    new Assertion<>(
+      "Couldn't rotate and move the points like the vector util!",
+      matches,
+      new IsTrue()
+    ).affirm();
+  }
+
+  @Test
+  void transform() {
+    final var shape = ParticleShape.sphere(3.0d, 100);
+    final var target = shape.transform(Rotation.IDENTITY, 1.0d, 2.0d, 3.0d, new double[shape.size() * 3]);
+    var onSphere = true;
+    for (var offset = 0; offset < target.length; offset += 3) {
+      final var distance = new Vector(target[offset], target[offset + 1], target[offset + 2])
+        .distance(new Vector(1.0d, 2.0d, 3.0d));
+      onSphere &= Math.abs(distance - 3.0d) < 1.0e-9d;
+    }
+    new Assertion<>(
+      "Couldn't place the points on the sphere!",
+      onSphere,
+      new IsTrue()
+    ).affirm();
+    new Assertion<>(
+      "Couldn't count the points!",
+      ParticleShape.cone(1.0d, 2.0d, 4, 8).size() + ParticleShape.helix(1.0d, 2.0d, 3.0d, 60).size(),
+      new IsEqual<>(92)
+    ).affirm();
+  }
+}
@@ -2,7 +2,11 @@ package io.github.portlek.bukkitlocation;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.cactoos.iterable.IterableOf;
 import org.hamcrest.collection.IsEmptyCollection;
 import org.hamcrest.core.AnyOf;
@@ -14,6 +18,22 @@ import org.llorllale.cactoos.matchers.IsTrue;
 
 final class RandomUtilTest {
 
+  @Test
+  void all() {
+    final var list = List.of(1, 2, 2, 3, 4, 5);
+    final var randoms = RandomUtil.chooseRandoms(list, 6, false);
+    new Assertion<>(
+      "Couldn't choose all distinct numbers!",
+      new HashSet<>(randoms),
+      new IsEqual<>(Set.of(1, 2, 3, 4, 5))
+    ).affirm();
+    new Assertion<>(
+      "Numbers are duplicated!",
+      randoms.size(),
+      new IsEqual<>(5)
+    ).affirm();
+  }
+
   @Test
   void chooseRandoms() {
     final var nonduplicatedlist = List.of(1, 1, 1, 1, 5, 6, 7, 8, 9);
@@ -76,4 +96,30 @@ final class RandomUtilTest {
       new IsEmptyCollection<>()
     ).affirm();
   }
+
+  @Test
+  void reservoir() {
+    final var numbers = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+    final var randoms = RandomUtil.reservoir(numbers, 10);
+    new Assertion<>(
+      "Couldn't choose correct amount of random numbers!",
+      new HashSet<>(randoms).size(),
+      new IsEqual<>(10)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't choose all numbers of a short iterable!",
+      new HashSet<>(RandomUtil.reservoir(List.of(1, 2, 3), 10)),
+      new IsEqual<>(Set.of(1, 2, 3))
+    ).affirm();
+  }
+
+  @Test
+  void seeded() {
+    final var numbers = IntStream.range(0, 1_000).boxed().collect(Collectors.toList());
+    new Assertion<>(
+      "Couldn't reproduce the numbers with the same seed!",
+      RandomUtil.chooseRandoms(numbers, 10, false, RandomSource.seeded(42L)),
+      new IsEqual<>(RandomUtil.chooseRandoms(numbers, 10, false, RandomSource.seeded(42L)))
+    ).affirm();
+  }
 }
@@ -0,0 +1,140 @@
+package io.github.portlek.bukkitlocation;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.bukkit.Location;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+final class RegionIndexTest {
+
+  private static ServerMock serverMock;
+
+  @BeforeAll
+  static void setUp() {
+    RegionIndexTest.serverMock = MockBukkit.mock();
+    MockBukkit.load(FakePlugin.class);
+    RegionIndexTest.serverMock.addSimpleWorld("world");
+  }
+
+  @AfterAll
+  static void tearDown() {
+    MockBukkit.unmock();
+  }
+
+  @Test
+  void load(@TempDir final Path directory) throws IOException {
+    final var world = RegionIndexTest.serverMock.getWorld("world");
+    final var other = UUID.randomUUID();
+    try (var store = RegionStore.open(directory.resolve("regions.bin"))) {
+      for (var index = 0; index < 100; index++) {
+        store.append(new CompactCuboid(index % 2 == 0 ? world.getUID() : other, index * 10, 0, 0, index * 10 + 4, 4,
+          4));
+      }
+      final var index = RegionIndex.load(store, world);
+      new Assertion<>(
+        "Couldn't load the cuboids of the world!",
+        index.size(),
+        new IsEqual<>(50)
+      ).affirm();
+      final var location = new Location(world, 42.0d, 2.0d, 2.0d);
+      final var found = index.query(location);
+      new Assertion<>(
+        "Couldn't query the loaded cuboids!",
+        found.size(),
+        new IsEqual<>(1)
+      ).affirm();
+      final var cuboid = found.get(0);
+      new Assertion<>(
+        "Couldn't create the cuboid from the bounds!",
+        CompactCuboid.of(cuboid),
+        new IsEqual<>(new CompactCuboid(world.getUID(), 40, 0, 0, 44, 4, 4))
+      ).affirm();
+      new Assertion<>(
+        "Couldn't reuse the created cuboid!",
+        index.query(location).get(0),
+        new IsSame<>(cuboid)
+      ).affirm();
+      new Assertion<>(
+        "Couldn't remove the loaded cuboid!",
+        index.remove(cuboid) && index.query(location).isEmpty(),
+        new IsTrue()
+      ).affirm();
+      new Assertion<>(
+        "Couldn't calculate the size correctly!",
+        index.size(),
+        new IsEqual<>(49)
+      ).affirm();
+      new Assertion<>(
+        "Couldn't skip the cuboids of the other worlds!",
+        index.query(new Location(world, 12.0d, 2.0d, 2.0d)).isEmpty(),
+        new IsTrue()
+      ).affirm();
+    }
+  }
+
+  @Test
+  void nearest() {
+    final var world = RegionIndexTest.serverMock.getWorld("world");
+    final var index = new RegionIndex(world);
+    final var near = new Cuboid(new Location(world, 10.0d, 0.0d, 10.0d), new Location(world, 12.0d, 2.0d, 12.0d));
+    final var far = new Cuboid(new Location(world, 100.0d, 0.0d, 100.0d), new Location(world, 102.0d, 2.0d, 102.0d));
+    index.insert(far);
+    index.insert(near);
+    new Assertion<>(
+      "Couldn't find the nearest cuboid!",
+      index.nearest(new Location(world, 0.0d, 0.0d, 0.0d)),
+      new IsEqual<>(Optional.of(near))
+    ).affirm();
+  }
+
+  @Test
+  void query() {
+    final var world = RegionIndexTest.serverMock.getWorld("world");
+    final var random = new Random(42L);
+    final var index = new RegionIndex(world);
+    final var cuboids = new ArrayList<Cuboid>();
+    for (var i = 0; i < 500; i++) {
+      final var x = random.nextInt(200);
+      final var y = random.nextInt(50);
+      final var z = random.nextInt(200);
+      final var cuboid = new Cuboid(
+        new Location(world, x, y, z),
+        new Location(world, x + random.nextInt(20), y + random.nextInt(20), z + random.nextInt(20)));
+      cuboids.add(cuboid);
+      index.insert(cuboid);
+    }
+    for (var i = 0; i < 250; i++) {
+      index.remove(cuboids.remove(random.nextInt(cuboids.size())));
+    }
+    for (var i = 0; i < 200; i++) {
+      final var location = new Location(world, random.nextInt(220), random.nextInt(70), random.nextInt(220));
+      final var expected = cuboids.stream()
+        .filter(cuboid -> cuboid.isIn(location))
+        .collect(Collectors.toSet());
+      new Assertion<>(
+        "Couldn't query the cuboids correctly!",
+        index.query(location).stream().collect(Collectors.toSet()),
+        new IsEqual<>(expected)
+      ).affirm();
+    }
+    new Assertion<>(
+      "Couldn't calculate the size correctly!",
+      index.size(),
+      new IsEqual<>(250)
+    ).affirm();
+  }
+}
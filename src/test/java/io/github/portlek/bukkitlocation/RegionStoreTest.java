@@ -0,0 +1,63 @@
+package io.github.portlek.bukkitlocation;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.UUID;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+final class RegionStoreTest {
+
+  private static ServerMock serverMock;
+
+  @BeforeAll
+  static void setUp() {
+    RegionStoreTest.serverMock = MockBukkit.mock();
+    MockBukkit.load(FakePlugin.class);
+    RegionStoreTest.serverMock.addSimpleWorld("world");
+  }
+
+  @AfterAll
+  static void tearDown() {
+    MockBukkit.unmock();
+  }
+
+  @Test
+  void appendAndReopen(@TempDir final Path directory) throws IOException {
+    final var world = RegionStoreTest.serverMock.getWorld("world");
+    final var path = directory.resolve("regions.bin");
+    final var other = UUID.randomUUID();
+    try (var store = RegionStore.open(path)) {
+      for (var index = 0; index < 100; index++) {
+        store.append(new CompactCuboid(index % 2 == 0 ? world.getUID() : other, index, 0, index, index + 4, 4,
+          index + 4));
+      }
+      store.set(1, new CompactCuboid(other, -1, -1, -1, 1, 1, 1));
+    }
+    try (var store = RegionStore.open(path)) {
+      new Assertion<>(
+        "Couldn't read the size correctly!",
+        store.size(),
+        new IsEqual<>(100)
+      ).affirm();
+      new Assertion<>(
+        "Couldn't update the cuboid in place!",
+        store.get(1),
+        new IsEqual<>(new CompactCuboid(other, -1, -1, -1, 1, 1, 1))
+      ).affirm();
+      final var index = new RegionIndex(world);
+      store.forEachCuboid(world, index::insert);
+      new Assertion<>(
+        "Couldn't load the cuboids of the world!",
+        index.size(),
+        new IsEqual<>(50)
+      ).affirm();
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package io.github.portlek.bukkitlocation;
+
+import java.util.Random;
+import org.bukkit.util.Vector;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+final class RotationTest {
+
+  @Test
+  void apply() {
+    final var rotation = Rotation.ofYawPitch(37.0d, -12.0d);
+    final var coordinates = new double[]{1.0d, 2.0d, 3.0d, -4.0d, 5.0d, -6.0d};
+    final var xs = new double[]{1.0d, -4.0d};
+    final var ys = new double[]{2.0d, 5.0d};
+    final var zs = new double[]{3.0d, -6.0d};
+    rotation.apply(coordinates);
+    rotation.apply(xs, ys, zs);
+    final var second = rotation.apply(new Vector(-4.0d, 5.0d, -6.0d));
+    new Assertion<>(
+      "Couldn't rotate the interleaved coordinates!",
+      new Vector(coordinates[3], coordinates[4], coordinates[5]),
+      new IsEqual<>(second)
+    ).affirm();
+    new Assertion<>(
+      "Couldn't rotate the coordinate arrays!",
+      new Vector(xs[1], ys[1], zs[1]),
+      new IsEqual<>(second)
+    ).affirm();
+  }
+
+  @Test
+  void applyBulk() {
+    final var rotation = Rotation.ofEuler(0.3d, -1.2d, 2.5d);
+    final var random = new Random(11L);
+    final var count = 1003;
+    final var xs = new double[count];
+    final var ys = new double[count];
+    final var zs = new double[count];
+    final var coordinates = new double[count * 3];
+    for (var index = 0; index < count; index++) {
+      xs[index] = coordinates[index * 3] = random.nextGaussian();
+      ys[index] = coordinates[index * 3 + 1] = random.nextGaussian();
+      zs[index] = coordinates[index * 3 + 2] = random.nextGaussian();
+    }
+    rotation.apply(xs, ys, zs);
+    rotation.apply(coordinates);
+    var same = true;
+    for (var index = 0; index < count; index++) {
+      same &= xs[index] == coordinates[index * 3] &&
+        ys[index] == coordinates[index * 3 + 1] &&
+        zs[index] == coordinates[index * 3 + 2];
+    }
+    new Assertion<>(
+      "The bulk kernel doesn't give the same results with the scalar rotation!",
+      same,
+      new IsTrue()
+    ).affirm();
+  }
+
+  @Test
+  void multiply() {
+    final var vector = Rotation.ofAxisZ(Math.PI / 2.0d)
+      .multiply(Rotation.IDENTITY)
+      .apply(new Vector(1.0d, 0.0d, 0.0d));
+    new Assertion<>(
+      "Couldn't combine the rotations!",
+      vector.distance(new Vector(0.0d, 1.0d, 0.0d)) < 1.0e-9d,
+      new IsTrue()
+    ).affirm();
+  }
+
+  @Test
+  void ofEuler() {
+    final var vector = Rotation.ofEuler(Math.PI / 2.0d, Math.PI / 2.0d, 0.0d).apply(new Vector(0.0d, 1.0d, 0.0d));
+    new Assertion<>(
+      "Couldn't rotate around x and then y!",
+      vector.distance(new Vector(1.0d, 0.0d, 0.0d)) < 1.0e-9d,
+      new IsTrue()
+    ).affirm();
+  }
+
+  @Test
+  void ofYawPitch() {
+    final var rotation = Rotation.ofYawPitch(123.0d, -37.0d);
+    new Assertion<>(
+      "Couldn't rotate around z axis with the pitch and then around y axis with the yaw!",
+      rotation.apply(new Vector(3.0d, -4.0d, 5.0d)).distance(
+        Rotation.ofAxisY(Math.toRadians(-213.0d))
+          .multiply(Rotation.ofAxisZ(Math.toRadians(37.0d)))
+          .apply(new Vector(3.0d, -4.0d, 5.0d))) < 1.0e-9d,
+      new IsTrue()
+    ).affirm();
+    new Assertion<>(
+      "Couldn't keep the length of the vector!",
+      Math.abs(rotation.apply(new Vector(3.0d, -4.0d, 5.0d)).length() - Math.sqrt(50.0d)) < 1.0e-9d,
+      new IsTrue()
+    ).affirm();
+    new Assertion<>(
+      "Couldn't turn the x axis to the pitch!",
+      Rotation.ofYawPitch(0.0d, -90.0d).apply(new Vector(1.0d, 0.0d, 0.0d))
+        .distance(new Vector(0.0d, 1.0d, 0.0d)) < 1.0e-9d,
+      new IsTrue()
+    ).affirm();
+  }
+}
@@ -0,0 +1,52 @@
+package io.github.portlek.bukkitlocation;
+
+import java.util.Random;
+import org.bukkit.util.Vector;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+final class TrigonometryModeTest {
+
+  @Test
+  void approximate() {
+    new Assertion<>(
+      "The approximation exceeds its error bound!",
+      TrigonometryModeTest.maximumError(TrigonometryMode.APPROXIMATE) < 3.0e-7d,
+      new IsTrue()
+    ).affirm();
+  }
+
+  @Test
+  void fast() {
+    new Assertion<>(
+      "The fast mode is not within an ulp!",
+      TrigonometryModeTest.maximumError(TrigonometryMode.FAST) < 1.0e-15d,
+      new IsTrue()
+    ).affirm();
+  }
+
+  @Test
+  void rotation() {
+    final var strict = Rotation.ofYawPitch(123.0d, -37.0d, TrigonometryMode.STRICT)
+      .apply(new Vector(3.0d, -4.0d, 5.0d));
+    final var approximate = Rotation.ofYawPitch(123.0d, -37.0d, TrigonometryMode.APPROXIMATE)
+      .apply(new Vector(3.0d, -4.0d, 5.0d));
+    new Assertion<>(
+      "The approximate rotation is too far from the strict one!",
+      strict.distance(approximate) < 1.0e-5d,
+      new IsTrue()
+    ).affirm();
+  }
+
+  private static double maximumError(final TrigonometryMode mode) {
+    final var random = new Random(7L);
+    var error = 0.0d;
+    for (var index = 0; index < 1_000_000; index++) {
+      final var angle = (random.nextDouble() - 0.5d) * 2.0e4d;
+      error = Math.max(error, Math.abs(mode.sin(angle) - StrictMath.sin(angle)));
+      error = Math.max(error, Math.abs(mode.cos(angle) - StrictMath.cos(angle)));
+    }
+    return error;
+  }
+}
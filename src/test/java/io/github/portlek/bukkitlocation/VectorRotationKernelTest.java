@@ -0,0 +1,44 @@
+package io.github.portlek.bukkitlocation;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+final class VectorRotationKernelTest {
+
+  @Test
+  void apply() throws ReflectiveOperationException {
+    Assumptions.assumeTrue(Runtime.version().feature() >= 17);
+    final var kernel = (RotationKernel) Class.forName("io.github.portlek.bukkitlocation.VectorRotationKernel")
+      .getField("INSTANCE")
+      .get(null);
+    final var rotation = Rotation.ofEuler(0.3d, -1.2d, 2.5d);
+    final var random = new Random(13L);
+    for (final var length : new int[]{1, 3, 5, 7, 9, 1003, 1031}) {
+      final var xs = VectorRotationKernelTest.random(random, length);
+      final var ys = VectorRotationKernelTest.random(random, length);
+      final var zs = VectorRotationKernelTest.random(random, length);
+      final var scalarXs = xs.clone();
+      final var scalarYs = ys.clone();
+      final var scalarZs = zs.clone();
+      kernel.apply(rotation, xs, ys, zs, length);
+      ScalarRotationKernel.INSTANCE.apply(rotation, scalarXs, scalarYs, scalarZs, length);
+      new Assertion<>(
+        "The vector kernel doesn't give the same results with the scalar kernel for " + length + " points!",
+        Arrays.equals(xs, scalarXs) && Arrays.equals(ys, scalarYs) && Arrays.equals(zs, scalarZs),
+        new IsTrue()
+      ).affirm();
+    }
+  }
+
+  private static double[] random(final Random random, final int length) {
+    final var values = new double[length];
+    for (var index = 0; index < length; index++) {
+      values[index] = random.nextGaussian();
+    }
+    return values;
+  }
+}
@@ -2,13 +2,16 @@ package io.github.portlek.bukkitlocation;
 
 import be.seeseemelk.mockbukkit.MockBukkit;
 import be.seeseemelk.mockbukkit.ServerMock;
+import java.lang.management.ManagementFactory;
 import org.bukkit.Location;
 import org.bukkit.util.Vector;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
 
 final class VectorUtilTest {
 
@@ -45,7 +48,7 @@ final class VectorUtilTest {
     new Assertion<>(
       "Couldn't rotate around axis X!",
       z,
-      new IsEqual<>(-8)
+      new IsEqual<>(-14)
     ).affirm();
   }
 
@@ -68,7 +71,7 @@ final class VectorUtilTest {
     new Assertion<>(
       "Couldn't rotate around axis Y!",
       z,
-      new IsEqual<>(-18)
+      new IsEqual<>(2)
     ).affirm();
   }
 
@@ -86,7 +89,7 @@ final class VectorUtilTest {
     new Assertion<>(
       "Couldn't rotate around axis Z!",
       y,
-      new IsEqual<>(-8)
+      new IsEqual<>(-14)
     ).affirm();
     new Assertion<>(
       "Couldn't rotate around axis Z!",
@@ -104,17 +107,57 @@ final class VectorUtilTest {
     new Assertion<>(
       "Couldn't rotate vector!",
       x,
-      new IsEqual<>(-4)
+      new IsEqual<>(-5)
     ).affirm();
     new Assertion<>(
       "Couldn't rotate vector!",
       y,
-      new IsEqual<>(2)
+      new IsEqual<>(7)
     ).affirm();
     new Assertion<>(
       "Couldn't rotate vector!",
       z,
-      new IsEqual<>(-1)
+      new IsEqual<>(-15)
+    ).affirm();
+  }
+
+  @Test
+  void rotateVectorLikeRotation() {
+    final var vector = new Vector(3.0d, -4.0d, 5.0d);
+    final var rotated = VectorUtil.rotateVector(vector, 123.0d, -37.0d);
+    new Assertion<>(
+      "Couldn't rotate like the rotation!",
+      rotated.distance(Rotation.ofYawPitch(123.0d, -37.0d).apply(vector.clone())) < 1.0e-9d,
+      new IsTrue()
+    ).affirm();
+    new Assertion<>(
+      "Couldn't keep the length of the vector!",
+      Math.abs(rotated.length() - vector.length()) < 1.0e-9d,
+      new IsTrue()
+    ).affirm();
+  }
+
+  @Test
+  void rotateVectorWithoutAllocation() {
+    Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+    final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final var thread = Thread.currentThread().getId();
+    final var vector = new Vector(1.0d, 2.0d, 3.0d);
+    final var out = new Vector();
+    final var scratch = new Vec3();
+    final var rotation = Rotation.ofYawPitch(30.0d, 15.0d);
+    for (var index = 0; index < 10_000; index++) {
+      VectorUtilTest.rotateInPlace(vector, out, scratch, rotation, index);
+    }
+    final var before = threads.getThreadAllocatedBytes(thread);
+    for (var index = 0; index < 100_000; index++) {
+      VectorUtilTest.rotateInPlace(vector, out, scratch, rotation, index);
+    }
+    final var allocated = threads.getThreadAllocatedBytes(thread) - before;
+    new Assertion<>(
+      "The in place rotations allocate!",
+      allocated < 1024L,
+      new IsTrue()
     ).affirm();
   }
 
@@ -164,4 +207,15 @@ final class VectorUtilTest {
       new IsEqual<>(10)
     ).affirm();
   }
+
+  private static void rotateInPlace(final Vector vector, final Vector out, final Vec3 scratch, final Rotation rotation,
+                                    final int index) {
+    VectorUtil.rotateVector(vector, index, 15.0d, out);
+    VectorUtil.rotateAroundAxisY(out, 0.5d);
+    scratch.set(out)
+      .rotateAroundAxisX(0.25d)
+      .rotate(rotation)
+      .normalize()
+      .copyTo(out);
+  }
 }
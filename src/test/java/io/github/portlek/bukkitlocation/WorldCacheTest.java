@@ -0,0 +1,99 @@
+package io.github.portlek.bukkitlocation;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.bukkit.Location;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+final class WorldCacheTest {
+
+  private static ServerMock serverMock;
+
+  @BeforeAll
+  static void setUp() {
+    WorldCacheTest.serverMock = MockBukkit.mock();
+    MockBukkit.load(FakePlugin.class);
+    WorldCacheTest.serverMock.addSimpleWorld("world");
+  }
+
+  @AfterAll
+  static void tearDown() {
+    MockBukkit.unmock();
+  }
+
+  @Test
+  void bind() {
+    final var cache = new WorldCache();
+    final var location = new UnresolvedLocation("nether", 1.0d, 2.0d, 3.0d, 90.0f, 0.0f);
+    final List<Location> bound = new ArrayList<>();
+    cache.bind(location, bound::add);
+    new Assertion<>(
+      "The location is bound before its world is loaded!",
+      bound.isEmpty() && cache.pendingCount() == 1,
+      new IsTrue()
+    ).affirm();
+    WorldCacheTest.serverMock.addSimpleWorld("nether");
+    final var world = WorldCacheTest.serverMock.getWorld("nether");
+    cache.onWorldLoad(new WorldLoadEvent(world));
+    new Assertion<>(
+      "Couldn't bind the location when its world is loaded!",
+      bound,
+      new IsEqual<>(List.of(new Location(world, 1.0d, 2.0d, 3.0d, 90.0f, 0.0f)))
+    ).affirm();
+    new Assertion<>(
+      "Couldn't clear the pending actions!",
+      cache.pendingCount(),
+      new IsEqual<>(0)
+    ).affirm();
+  }
+
+  @Test
+  void find() {
+    final var cache = new WorldCache();
+    final var world = WorldCacheTest.serverMock.getWorld("world");
+    new Assertion<>(
+      "Couldn't find the world!",
+      cache.getWorld("world"),
+      new IsSame<>(world)
+    ).affirm();
+    cache.onWorldUnload(new WorldUnloadEvent(world));
+    new Assertion<>(
+      "Couldn't invalidate the unloaded world!",
+      cache.find("world"),
+      new IsEqual<>(Optional.empty())
+    ).affirm();
+    cache.onWorldLoad(new WorldLoadEvent(world));
+    new Assertion<>(
+      "Couldn't cache the loaded world!",
+      LocationUtil.fromKey("world/1_00,2_00,3_00", cache),
+      new IsEqual<>(Optional.of(new Location(world, 1.0d, 2.0d, 3.0d)))
+    ).affirm();
+  }
+
+  @Test
+  void missing() {
+    final var cache = new WorldCache();
+    new Assertion<>(
+      "Couldn't miss the unknown world!",
+      cache.find("end"),
+      new IsEqual<>(Optional.empty())
+    ).affirm();
+    WorldCacheTest.serverMock.addSimpleWorld("end");
+    new Assertion<>(
+      "Couldn't find the world which is loaded after a miss!",
+      cache.getWorld("end"),
+      new IsSame<>(WorldCacheTest.serverMock.getWorld("end"))
+    ).affirm();
+  }
+}